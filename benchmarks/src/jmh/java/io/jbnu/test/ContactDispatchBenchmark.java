@@ -0,0 +1,55 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link GameContactListener#beginContact} for a real player-ground contact, including draining the event it
+ * posts through the simulation's rules.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContactDispatchBenchmark
+{
+    private GameSimulation simulation;
+    private GameContactListener listener;
+    private Contact contact;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Box2D.init();
+        simulation = new GameSimulation(42L, 20f, 11.25f);
+        listener = new GameContactListener(simulation.getEvents());
+
+        // Let the player fall onto the start platform so a touching contact exists.
+        SimulationInput input = new SimulationInput();
+        World world = ((Box2DPhysics) simulation.getPhysics()).getWorld();
+        while (world.getContactCount() == 0)
+        {
+            simulation.step(input);
+        }
+        Array<Contact> contacts = world.getContactList();
+        contact = contacts.first();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public int beginContact()
+    {
+        listener.beginContact(contact);
+        simulation.getEvents().drain();
+        return simulation.getJumpCount();
+    }
+}
@@ -0,0 +1,49 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import io.jbnu.test.headless.ScriptedLaunchInput;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full simulation step driven by the scripted launch input used by the headless soak. Run with the GC profiler
+ * (enabled in the build) and read {@code gc.alloc.rate.norm} for the bytes allocated per step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrameAllocationBenchmark
+{
+    private final SimulationInput input = new SimulationInput();
+    private InputSource script;
+    private GameSimulation simulation;
+    private long seed = 1L;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Box2D.init();
+        script = new ScriptedLaunchInput(90, 1.6f, 2.2f);
+        simulation = new GameSimulation(seed, 20f, 11.25f);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public long step()
+    {
+        script.read(simulation.getTick(), simulation, input);
+        simulation.step(input);
+
+        if (simulation.isGameOver() || simulation.isGameClear())
+        {
+            simulation.reset(++seed);
+        }
+        return simulation.getTick();
+    }
+}
@@ -0,0 +1,41 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code generateGrounds} and {@code removeOldGrounds}. Each operation scrolls the view by about two
+ * platforms, which stays within the per-step creation budget, so as many platforms are created as are retired.
+ * No physics is stepped.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GroundGenerationBenchmark
+{
+    private GameSimulation simulation;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        Box2D.init();
+        simulation = new GameSimulation(42L, 20f, 11.25f);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown()
+    {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public int generateAndRemove()
+    {
+        simulation.moveView(10f);
+        simulation.generateGrounds();
+        simulation.removeOldGrounds();
+        return simulation.getGrounds().size();
+    }
+}
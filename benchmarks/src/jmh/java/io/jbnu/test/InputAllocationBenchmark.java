@@ -0,0 +1,68 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scripted drag-to-launch sequence through the simulation's input path: hold the boost key, grab the player,
+ * drag for a few ticks and release. The input path is expected to allocate nothing, so with the GC profiler
+ * {@code gc.alloc.rate.norm} should read 0 bytes per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InputAllocationBenchmark
+{
+    private static final int DRAG_TICKS = 8;
+
+    private final SimulationInput input = new SimulationInput();
+    private GameSimulation simulation;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        Box2D.init();
+        simulation = new GameSimulation(42L, 20f, 11.25f);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown()
+    {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DRAG_TICKS + 2)
+    public boolean dragAndLaunch()
+    {
+        Vector2 position = simulation.getPlayerPosition();
+        float startX = position.x;
+        float startY = position.y;
+
+        input.boost = true;
+        input.pointerDown = true;
+        input.pointerX = startX;
+        input.pointerY = startY;
+        simulation.step(input);
+
+        for (int i = 1; i <= DRAG_TICKS; i++)
+        {
+            input.pointerX = startX - i * 0.25f;
+            input.pointerY = startY - i * 0.3f;
+            simulation.step(input);
+        }
+
+        input.boost = false;
+        input.pointerDown = false;
+        simulation.step(input);
+
+        // Put the player back so every invocation grabs it in the same place.
+        simulation.getPhysics().setPlayerTransform(startX, startY, 0);
+        simulation.getPhysics().setPlayerVelocity(0, 0);
+        simulation.resetJumpCount();
+        return simulation.isDragging();
+    }
+}
@@ -0,0 +1,69 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one physics step on each {@link PhysicsType}, on the workload the game produces: the player thrown onto a
+ * row of {@code grounds} active platforms with the stage slopes and frictions, landing, sliding and settling. The
+ * player is thrown again every {@link #THROW_STEPS} steps so it never sleeps in Box2D.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PhysicsBackendBenchmark
+{
+    private static final int THROW_STEPS = 120;
+    private static final float[] ANGLES = { 0, MathUtils.PI / 8, 0, -MathUtils.PI / 6 };
+    private static final float[] FRICTIONS = { Ground.FRICTION_NORMAL, Ground.FRICTION_LOW, Ground.FRICTION_HIGH };
+
+    @Param({"BOX2D", "OBB"})
+    public PhysicsType physics;
+
+    @Param({"4", "16"})
+    public int grounds;
+
+    private final GameEvents events = new GameEvents();
+    private PhysicsBackend backend;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Box2D.init();
+        backend = physics.create(events, grounds);
+        backend.setGravity(new Vector2(0, -5.0f));
+        backend.createPlayer(0, 3, GameSimulation.PLAYER_HALF_WIDTH, GameSimulation.PLAYER_HALF_HEIGHT, 1.0f, 0.7f,
+            0.1f);
+        for (int i = 0; i < grounds; i++)
+        {
+            backend.addGround(i, i * 5f, 2, 4, 0.5f, ANGLES[i % ANGLES.length], FRICTIONS[i % FRICTIONS.length]);
+            backend.setGroundActive(i, true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        backend.dispose();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(THROW_STEPS)
+    public float throwAndSettle()
+    {
+        backend.setPlayerTransform(0, 3, 0);
+        backend.setPlayerVelocity(0, 0);
+        backend.setPlayerAngularVelocity(0);
+        backend.applyPlayerForce(60f, 120f);
+        for (int i = 0; i < THROW_STEPS; i++)
+        {
+            backend.step(GameSimulation.TIME_STEP);
+        }
+        events.clear();
+        return backend.getPlayerPosition().x;
+    }
+}
@@ -0,0 +1,53 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Cost of one {@code world.step} with the player resting on a row of {@code grounds} static platforms. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldStepBenchmark
+{
+    @Param({"10", "100", "1000"})
+    public int grounds;
+
+    private World world;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Box2D.init();
+        // Sleeping is off so the player keeps generating contacts for the whole measurement.
+        world = new World(new Vector2(0, -5.0f), false);
+
+        for (int i = 0; i < grounds; i++)
+        {
+            Ground.createGround(world, i, i * 5f, 2, 4, 0.5f, 0, Ground.FRICTION_NORMAL, true);
+        }
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.position.set(0, 3);
+        Body player = world.createBody(bodyDef);
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(GameSimulation.PLAYER_HALF_WIDTH, GameSimulation.PLAYER_HALF_HEIGHT);
+        player.createFixture(shape, 1.0f);
+        shape.dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        world.dispose();
+    }
+
+    @Benchmark
+    public void step()
+    {
+        world.step(GameSimulation.TIME_STEP, 6, 2);
+    }
+}
@@ -0,0 +1,16 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.utils.Disposable;
+
+/** Plays sounds for the {@link AudioManager}, which calls it from the render thread only. */
+public interface AudioBackend extends Disposable
+{
+    /** Starts one voice of {@code effect} and returns its id, or -1 if none was started. */
+    long play(SoundEffect effect);
+
+    /** Stops a voice returned by {@link #play}. Does nothing if it has already finished. */
+    void stop(SoundEffect effect, long voice);
+
+    /** Starts or pauses the soundtrack, which resumes where it was paused. */
+    void setMusicPlaying(boolean playing);
+}
@@ -0,0 +1,103 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sound effects requested by the game and played once per frame. The simulation thread only writes effect ordinals
+ * into a lock-free ring with {@link #post}, which never allocates, blocks or touches the audio device; the render
+ * thread plays them in {@link #update}. An effect posted several times between two updates plays once, and at most
+ * {@link SoundEffect#maxVoices} voices of it sound at a time, the oldest being cut off to make room.
+ */
+public class AudioManager implements Disposable
+{
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+
+    private final AudioBackend backend;
+    private final int mask;
+    private final int[] commands;
+    // tail is only written by the producer and head only by the consumer
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // Render thread only.
+    private final long[][] voices = new long[EFFECTS.length][];
+    private final int[] nextVoice = new int[EFFECTS.length];
+    private final boolean[] playedThisUpdate = new boolean[EFFECTS.length];
+    private boolean musicPlaying = false;
+
+    public AudioManager(AudioBackend backend)
+    {
+        this(backend, 64);
+    }
+
+    /** @param capacity effects that can be pending between two updates, rounded up to a power of two */
+    public AudioManager(AudioBackend backend, int capacity)
+    {
+        this.backend = backend;
+        capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        mask = capacity - 1;
+        commands = new int[capacity];
+        for (SoundEffect effect : EFFECTS)
+        {
+            voices[effect.ordinal()] = new long[effect.maxVoices];
+            Arrays.fill(voices[effect.ordinal()], -1);
+        }
+    }
+
+    /** Producer side, one thread only. Returns false if the queue is full and the effect was dropped. */
+    public boolean post(SoundEffect effect)
+    {
+        long t = tail.get();
+        if (t - head.get() > mask) return false;
+
+        commands[(int) t & mask] = effect.ordinal();
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /** Render thread. Plays the effects posted since the last update. */
+    public void update()
+    {
+        long h = head.get();
+        long t = tail.get();
+        if (h == t) return;
+
+        for (; h != t; h++)
+        {
+            int id = commands[(int) h & mask];
+            if (playedThisUpdate[id]) continue;
+            playedThisUpdate[id] = true;
+            play(EFFECTS[id]);
+        }
+        head.lazySet(h);
+
+        Arrays.fill(playedThisUpdate, false);
+    }
+
+    private void play(SoundEffect effect)
+    {
+        long[] ring = voices[effect.ordinal()];
+        int slot = nextVoice[effect.ordinal()];
+        // 슬롯에 남아 있는 가장 오래된 소리를 끊는다. 이미 끝난 소리면 아무 일도 없다
+        if (ring[slot] != -1) backend.stop(effect, ring[slot]);
+        ring[slot] = backend.play(effect);
+        nextVoice[effect.ordinal()] = (slot + 1) % ring.length;
+    }
+
+    /** Render thread. Starts or pauses the soundtrack; only changes reach the backend. */
+    public void setMusicPlaying(boolean playing)
+    {
+        if (playing == musicPlaying) return;
+        musicPlaying = playing;
+        backend.setMusicPlaying(playing);
+    }
+
+    @Override
+    public void dispose()
+    {
+        backend.dispose();
+    }
+}
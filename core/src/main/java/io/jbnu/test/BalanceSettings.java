@@ -0,0 +1,74 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Stage rules as a handful of parameters that grow per stage, for the sweep runner to vary. The defaults describe
+ * the same stages as the {@code stages.json} the game ships with. {@link #toStageTable()} turns them into the
+ * {@link StageTable} a simulation runs on, so changing an instance afterwards has no effect on it.
+ */
+public class BalanceSettings
+{
+    public int scorePerStage = 500;
+    public int clearScore = 2000;
+    /** Smallest gap between platforms on stage 1, and how much it grows per stage. */
+    public float minGap = 1.0f;
+    public float minGapPerStage = 0.2f;
+    /** Largest gap between platforms on stage 1, and how much it grows per stage. */
+    public float maxGap = 3.0f;
+    public float maxGapPerStage = 0.3f;
+    public float maxAngleStage2 = MathUtils.PI / 8;
+    public float maxAngleStage3 = MathUtils.PI / 6;
+    /** Chance that a platform carries coins. */
+    public float coinChance = 0.5f;
+    /** Chance of a hazard on a long flat platform, 0 on stage 1 and growing by this much per stage. */
+    public float hazardChancePerStage = 0.05f;
+
+    public BalanceSettings()
+    {
+    }
+
+    public BalanceSettings(BalanceSettings other)
+    {
+        scorePerStage = other.scorePerStage;
+        clearScore = other.clearScore;
+        minGap = other.minGap;
+        minGapPerStage = other.minGapPerStage;
+        maxGap = other.maxGap;
+        maxGapPerStage = other.maxGapPerStage;
+        maxAngleStage2 = other.maxAngleStage2;
+        maxAngleStage3 = other.maxAngleStage3;
+        coinChance = other.coinChance;
+        hazardChancePerStage = other.hazardChancePerStage;
+    }
+
+    /**
+     * Builds the stages up to {@link #clearScore}: stage 1 is flat with no sticky platforms, stage 2 tilts up to
+     * {@link #maxAngleStage2} and the rest up to {@link #maxAngleStage3}. Throws if the values give a stage the
+     * {@link StageTable} checks reject.
+     */
+    public StageTable toStageTable()
+    {
+        if (scorePerStage <= 0) throw new GdxRuntimeException("scorePerStage must be positive.");
+        int stageCount = Math.max(1, (clearScore + scorePerStage - 1) / scorePerStage);
+        StageTable table = new StageTable(clearScore, stageCount);
+        for (int i = 0; i < stageCount; i++)
+        {
+            float maxAngle = i == 0 ? 0 : i == 1 ? maxAngleStage2 : maxAngleStage3;
+            table.setStage(i, i * scorePerStage, minGap + i * minGapPerStage, maxGap + i * maxGapPerStage, maxAngle,
+                i == 0 ? 0 : 20, i == 0 ? 50 : 30, 0.3f, 0.4f, coinChance, i * hazardChancePerStage);
+        }
+        return table;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "scorePerStage=" + scorePerStage + " clearScore=" + clearScore
+            + " gap=" + minGap + "+" + minGapPerStage + "/stage.." + maxGap + "+" + maxGapPerStage + "/stage"
+            + " maxAngle2=" + MathUtils.radiansToDegrees * maxAngleStage2
+            + " maxAngle3=" + MathUtils.radiansToDegrees * maxAngleStage3
+            + " coins=" + coinChance + " hazards=" + hazardChancePerStage + "/stage";
+    }
+}
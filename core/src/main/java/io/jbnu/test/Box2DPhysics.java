@@ -0,0 +1,179 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+
+/**
+ * The default {@link PhysicsBackend}, backed by a Box2D {@link World}. Ground bodies are recycled through a
+ * {@link GroundPool}, contacts are dispatched by {@link GameContactListener}.
+ */
+public class Box2DPhysics implements PhysicsBackend
+{
+    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int POSITION_ITERATIONS = 2;
+
+    private final World world;
+    private final GroundPool groundPool;
+    private Body player;
+    private Body[] grounds = new Body[64];
+
+    /** @param groundCapacity ground bodies the {@link GroundPool} keeps for reuse */
+    public Box2DPhysics(GameEvents events, int groundCapacity)
+    {
+        world = new World(new Vector2(), true);
+        groundPool = new GroundPool(world, groundCapacity);
+        world.setContactListener(new GameContactListener(events));
+    }
+
+    @Override
+    public void createPlayer(float x, float y, float halfWidth, float halfHeight, float density, float friction,
+                             float restitution)
+    {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.position.set(x, y);
+
+        player = world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfWidth, halfHeight);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = density;
+        fixtureDef.friction = friction;
+        fixtureDef.restitution = restitution;
+        fixtureDef.filter.categoryBits = EntityCategory.PLAYER;
+        fixtureDef.filter.maskBits = EntityCategory.PLAYER_MASK;
+
+        player.createFixture(fixtureDef);
+        shape.dispose();
+    }
+
+    @Override
+    public void setGravity(Vector2 gravity)
+    {
+        world.setGravity(gravity);
+    }
+
+    @Override
+    public void addGround(int id, float x, float y, float width, float height, float angle, float friction)
+    {
+        if (id >= grounds.length)
+        {
+            Body[] newGrounds = new Body[Math.max(id + 1, grounds.length * 2)];
+            System.arraycopy(grounds, 0, newGrounds, 0, grounds.length);
+            grounds = newGrounds;
+        }
+        grounds[id] = groundPool.obtain(id, x, y, width, height, angle, friction);
+    }
+
+    @Override
+    public void setGroundActive(int id, boolean active)
+    {
+        grounds[id].setActive(active);
+    }
+
+    @Override
+    public void removeGround(int id)
+    {
+        groundPool.free(grounds[id]);
+        grounds[id] = null;
+    }
+
+    @Override
+    public void step(float timeStep)
+    {
+        world.step(timeStep, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+    }
+
+    @Override
+    public Vector2 getPlayerPosition()
+    {
+        return player.getPosition();
+    }
+
+    @Override
+    public Vector2 getPlayerVelocity()
+    {
+        return player.getLinearVelocity();
+    }
+
+    @Override
+    public float getPlayerAngle()
+    {
+        return player.getAngle();
+    }
+
+    @Override
+    public float getPlayerMass()
+    {
+        return player.getMass();
+    }
+
+    @Override
+    public void setPlayerTransform(float x, float y, float angle)
+    {
+        player.setTransform(x, y, angle);
+        player.setAwake(true);
+    }
+
+    @Override
+    public void setPlayerVelocity(float x, float y)
+    {
+        player.setLinearVelocity(x, y);
+    }
+
+    @Override
+    public void setPlayerAngularVelocity(float angularVelocity)
+    {
+        player.setAngularVelocity(angularVelocity);
+    }
+
+    @Override
+    public void applyPlayerForce(float x, float y)
+    {
+        player.applyForceToCenter(x, y, true);
+    }
+
+    @Override
+    public boolean playerContains(float x, float y)
+    {
+        return player.getFixtureList().first().testPoint(x, y);
+    }
+
+    @Override
+    public int getBodyCount()
+    {
+        return world.getBodyCount();
+    }
+
+    @Override
+    public int getFixtureCount()
+    {
+        return world.getFixtureCount();
+    }
+
+    @Override
+    public int getContactCount()
+    {
+        return world.getContactCount();
+    }
+
+    /** The Box2D world, for the debug renderer and benchmarks that drive Box2D directly. */
+    public World getWorld()
+    {
+        return world;
+    }
+
+    public GroundPool getGroundPool()
+    {
+        return groundPool;
+    }
+
+    @Override
+    public void dispose()
+    {
+        world.dispose();
+    }
+}
@@ -0,0 +1,29 @@
+package io.jbnu.test;
+
+/**
+ * Category bits for every kind of entity in the game. Each category is a single bit. The player and grounds are
+ * Box2D fixtures, and the mask bits decide which pairs Box2D lets become contacts at all. Coins, flags and hazards
+ * have no bodies; they are kept in an {@link EntityTrack} and tested against the player by {@link GameSimulation}.
+ */
+public final class EntityCategory
+{
+    public static final short PLAYER = 0x0001;
+    public static final short GROUND = 0x0002;
+    public static final short COIN = 0x0004;
+    public static final short FLAG = 0x0008;
+    public static final short HAZARD = 0x0010;
+
+    /** Number of distinct categories Box2D supports (one per bit of a short). */
+    public static final int COUNT = 16;
+
+    public static final short PLAYER_MASK = GROUND | COIN | FLAG | HAZARD;
+    public static final short GROUND_MASK = PLAYER;
+
+    private EntityCategory() {}
+
+    /** Bit position of a single-bit category, used to index per-category tables. */
+    public static int index(short category)
+    {
+        return Integer.numberOfTrailingZeros(category & 0xFFFF);
+    }
+}
@@ -0,0 +1,95 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Draws the coins, flags and hazards of a {@link SimulationSnapshot} in world space. Every sprite is a region of the
+ * game atlas, coloured by the batch's packed vertex colour, so one batch pass over the snapshot draws them all with a
+ * single texture and the draw call count doesn't grow with the number of coins on screen.
+ * <p>
+ * {@code flag.png} is an SVG and isn't in the atlas, so flags and hazards are solid shapes: the 1x1 opaque
+ * {@code white.png} texel stretched and tinted.
+ */
+public class EntityRenderer
+{
+    private static final float WHITE = Color.WHITE.toFloatBits();
+    private static final float POLE_COLOR = Color.LIGHT_GRAY.toFloatBits();
+    private static final float FLAG_COLOR = Color.ORANGE.toFloatBits();
+    private static final float REACHED_FLAG_COLOR = Color.LIME.toFloatBits();
+    private static final float HAZARD_COLOR = Color.RED.toFloatBits();
+    private static final float POLE_HALF_WIDTH = 0.04f;
+    private static final float PENNANT_WIDTH = 0.5f;
+    private static final float PENNANT_HEIGHT = 0.35f;
+    private static final int SPIKES = 3;
+
+    private final TextureRegion coinRegion;
+    private final TextureRegion whiteRegion;
+
+    /** @param whiteRegion a single opaque white texel */
+    public EntityRenderer(TextureRegion coinRegion, TextureRegion whiteRegion)
+    {
+        if (whiteRegion == null || whiteRegion.getRegionWidth() != 1 || whiteRegion.getRegionHeight() != 1)
+        {
+            throw new GdxRuntimeException("The atlas needs the 1x1 white region; run packTextures.");
+        }
+        this.coinRegion = coinRegion;
+        this.whiteRegion = whiteRegion;
+    }
+
+    /** Queues every entity of the snapshot into {@code batch}, which must have been begun with the world camera. */
+    public void draw(Batch batch, SimulationSnapshot snapshot)
+    {
+        for (int i = 0; i < snapshot.entityCount; i++)
+        {
+            float x = snapshot.entityX[i];
+            float y = snapshot.entityY[i];
+            switch (snapshot.entityCategory[i])
+            {
+                case EntityCategory.COIN:
+                    batch.setPackedColor(WHITE);
+                    batch.draw(coinRegion, x - GameSimulation.COIN_HALF_SIZE, y - GameSimulation.COIN_HALF_SIZE,
+                        2 * GameSimulation.COIN_HALF_SIZE, 2 * GameSimulation.COIN_HALF_SIZE);
+                    break;
+                case EntityCategory.FLAG:
+                    drawFlag(batch, x, y, snapshot.entityTaken[i]);
+                    break;
+                case EntityCategory.HAZARD:
+                    drawHazard(batch, x, y);
+                    break;
+            }
+        }
+        batch.setPackedColor(WHITE);
+    }
+
+    private void drawFlag(Batch batch, float x, float y, boolean reached)
+    {
+        float bottom = y - GameSimulation.FLAG_HALF_HEIGHT;
+        float top = y + GameSimulation.FLAG_HALF_HEIGHT;
+        batch.setPackedColor(POLE_COLOR);
+        batch.draw(whiteRegion, x - POLE_HALF_WIDTH, bottom, 2 * POLE_HALF_WIDTH, top - bottom);
+        batch.setPackedColor(reached ? REACHED_FLAG_COLOR : FLAG_COLOR);
+        batch.draw(whiteRegion, x + POLE_HALF_WIDTH, top - PENNANT_HEIGHT, PENNANT_WIDTH, PENNANT_HEIGHT);
+    }
+
+    /** A low block with a row of squares turned on their corners as spikes. */
+    private void drawHazard(Batch batch, float x, float y)
+    {
+        float halfWidth = GameSimulation.HAZARD_HALF_WIDTH;
+        float halfHeight = GameSimulation.HAZARD_HALF_HEIGHT;
+        float spike = 2 * halfWidth / SPIKES;
+        float bottom = y - halfHeight;
+
+        batch.setPackedColor(HAZARD_COLOR);
+        batch.draw(whiteRegion, x - halfWidth, bottom, 2 * halfWidth, halfHeight);
+        float size = spike * 0.7071f;
+        for (int i = 0; i < SPIKES; i++)
+        {
+            float spikeX = x - halfWidth + (i + 0.5f) * spike;
+            batch.draw(whiteRegion, spikeX - size / 2, bottom + halfHeight - size / 2, size / 2, size / 2, size, size,
+                1, 1, 45);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.jbnu.test;
+
+/**
+ * The live coins, flags and hazards from left to right, in primitive arrays that are reused for the whole run. They
+ * have no physics bodies; {@link GameSimulation} tests the player against the few entries near it each step, found
+ * with a binary search, so hundreds of coins cost the same per step as a handful.
+ * <p>
+ * Entities are placed on platforms, which are laid out left to right, so their centres are added in increasing x
+ * order and the ones that have scrolled out are always at the front. None is wider than {@link #MAX_HALF_WIDTH}, which
+ * bounds how far left of a query an overlapping entity's centre can be.
+ */
+public class EntityTrack
+{
+    public static final float MAX_HALF_WIDTH = 0.5f;
+
+    private short[] category;
+    private float[] x;
+    private float[] y;
+    private float[] halfWidth;
+    private float[] halfHeight;
+    private boolean[] taken;
+
+    private int head = 0;
+    private int size = 0;
+
+    public EntityTrack()
+    {
+        this(64);
+    }
+
+    /** @param capacity initial capacity, rounded up to a power of two */
+    public EntityTrack(int capacity)
+    {
+        allocate(Math.max(2, Integer.highestOneBit(capacity - 1) << 1));
+    }
+
+    private void allocate(int capacity)
+    {
+        category = new short[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        halfWidth = new float[capacity];
+        halfHeight = new float[capacity];
+        taken = new boolean[capacity];
+    }
+
+    /**
+     * Adds an entity to the right end. Its centre must not be left of the previous one's.
+     *
+     * @param category one of {@link EntityCategory#COIN}, {@link EntityCategory#FLAG} or {@link EntityCategory#HAZARD}
+     */
+    public void addLast(short category, float x, float y, float halfWidth, float halfHeight)
+    {
+        if (halfWidth > MAX_HALF_WIDTH) throw new IllegalArgumentException("Entity wider than MAX_HALF_WIDTH.");
+        if (size == this.x.length) grow();
+
+        int slot = (head + size) & (this.x.length - 1);
+        this.category[slot] = category;
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.halfWidth[slot] = halfWidth;
+        this.halfHeight[slot] = halfHeight;
+        taken[slot] = false;
+        size++;
+    }
+
+    /** Removes the {@code count} leftmost entities. */
+    public void removeFirst(int count)
+    {
+        if (count > size) throw new IllegalStateException("EntityTrack has fewer than " + count + " entities.");
+        head = (head + count) & (x.length - 1);
+        size -= count;
+    }
+
+    public void clear()
+    {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow()
+    {
+        short[] oldCategory = category;
+        float[] oldX = x, oldY = y, oldHalfWidth = halfWidth, oldHalfHeight = halfHeight;
+        boolean[] oldTaken = taken;
+        int oldMask = oldX.length - 1;
+
+        allocate(oldX.length * 2);
+        for (int i = 0; i < size; i++)
+        {
+            int from = (head + i) & oldMask;
+            category[i] = oldCategory[from];
+            x[i] = oldX[from];
+            y[i] = oldY[from];
+            halfWidth[i] = oldHalfWidth[from];
+            halfHeight[i] = oldHalfHeight[from];
+            taken[i] = oldTaken[from];
+        }
+        head = 0;
+    }
+
+    /**
+     * Index of the first entity that may reach {@code x} or beyond, or {@link #size()} if there is none. Entries from
+     * there on may still end left of {@code x}; callers check the bounds of each.
+     */
+    public int firstReaching(float x)
+    {
+        return firstCentreAtOrAfter(x - MAX_HALF_WIDTH);
+    }
+
+    /** Index of the first entity whose centre is at or right of {@code x}. */
+    public int firstCentreAtOrAfter(float x)
+    {
+        int low = 0;
+        int high = size;
+        int mask = this.x.length - 1;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (this.x[(head + mid) & mask] < x) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int slot(int index)
+    {
+        return (head + index) & (x.length - 1);
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public short getCategory(int index)
+    {
+        return category[slot(index)];
+    }
+
+    public float getX(int index)
+    {
+        return x[slot(index)];
+    }
+
+    public float getY(int index)
+    {
+        return y[slot(index)];
+    }
+
+    public float getHalfWidth(int index)
+    {
+        return halfWidth[slot(index)];
+    }
+
+    public float getHalfHeight(int index)
+    {
+        return halfHeight[slot(index)];
+    }
+
+    /** Whether the coin has been collected or the flag reached. */
+    public boolean isTaken(int index)
+    {
+        return taken[slot(index)];
+    }
+
+    public void setTaken(int index)
+    {
+        taken[slot(index)] = true;
+    }
+}
@@ -2,15 +2,38 @@ package io.jbnu.test;
 
 import com.badlogic.gdx.physics.box2d.*;
 
+/**
+ * Dispatches contacts through a table of handlers keyed by the filter categories of the two fixtures. Pairs that
+ * the game ignores are already rejected by the mask bits in {@link EntityCategory}, so they never reach this class.
+ * Handlers run while Box2D is locked, so they only post to {@link GameEvents}; the game reacts after the step.
+ */
 public class GameContactListener implements ContactListener {
 
+    /** Handles the start of a contact. The fixtures are passed in the category order they were registered with. */
+    public interface Handler
+    {
+        void beginContact(Fixture fixtureA, Fixture fixtureB);
+    }
 
-    private final GameScreen gameScreen;
+    private final GameEvents events;
+    private final Handler[] handlers = new Handler[EntityCategory.COUNT * EntityCategory.COUNT];
+    private final boolean[] swapped = new boolean[EntityCategory.COUNT * EntityCategory.COUNT];
 
-    public GameContactListener(GameScreen gameScreen) {
+    public GameContactListener(GameEvents events) {
+        this.events = events;
 
+        register(EntityCategory.PLAYER, EntityCategory.GROUND, this::playerGround);
+    }
 
-        this.gameScreen = gameScreen;
+    public void register(short categoryA, short categoryB, Handler handler)
+    {
+        int a = EntityCategory.index(categoryA);
+        int b = EntityCategory.index(categoryB);
+
+        handlers[a * EntityCategory.COUNT + b] = handler;
+        swapped[a * EntityCategory.COUNT + b] = false;
+        handlers[b * EntityCategory.COUNT + a] = handler;
+        swapped[b * EntityCategory.COUNT + a] = a != b;
     }
 
     @Override
@@ -19,52 +42,24 @@ public class GameContactListener implements ContactListener {
         Fixture fixtureA = contact.getFixtureA();
         Fixture fixtureB = contact.getFixtureB();
 
-        Fixture playerFixture = null;
-        Fixture groundFixture = null;
-        Ground.GroundUserData groundUserData = null;
+        int key = EntityCategory.index(fixtureA.getFilterData().categoryBits) * EntityCategory.COUNT
+            + EntityCategory.index(fixtureB.getFilterData().categoryBits);
+        Handler handler = handlers[key];
+        if (handler == null) return;
 
-        if (isFixturePlayer(fixtureA) && isFixtureGround(fixtureB))
-        {
-            playerFixture = fixtureA;
-            groundFixture = fixtureB;
-            if (fixtureB.getUserData() instanceof Ground.GroundUserData)
-            {
-                groundUserData = (Ground.GroundUserData) fixtureB.getUserData();
-            }
-        }
-        else if (isFixtureGround(fixtureA) && isFixturePlayer(fixtureB))
+        if (swapped[key])
         {
-            playerFixture = fixtureB;
-            groundFixture = fixtureA;
-            if (fixtureA.getUserData() instanceof Ground.GroundUserData)
-            {
-                groundUserData = (Ground.GroundUserData) fixtureA.getUserData();
-            }
+            handler.beginContact(fixtureB, fixtureA);
         }
-
-        if (playerFixture != null && groundUserData != null)
+        else
         {
-            gameScreen.resetJumpCount();
-
-            if (!groundUserData.touched) {
-                gameScreen.addScore(100);
-                groundUserData.touched = true;
-            }
+            handler.beginContact(fixtureA, fixtureB);
         }
     }
 
-    private boolean isFixturePlayer(Fixture fixture)
+    private void playerGround(Fixture playerFixture, Fixture groundFixture)
     {
-        return "player".equals(fixture.getUserData());
-    }
-
-    private boolean isFixtureGround(Fixture fixture)
-    {
-        if (fixture.getUserData() instanceof Ground.GroundUserData)
-        {
-            return "ground".equals(((Ground.GroundUserData) fixture.getUserData()).type);
-        }
-        return false;
+        events.post(GameEvents.PLAYER_LANDED, Ground.getId(groundFixture));
     }
 
     @Override
@@ -0,0 +1,123 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A ring buffer of game events. Events are posted as an int type and an int argument into preallocated arrays, so
+ * posting never allocates and is safe from inside {@code world.step}, where Box2D is locked. {@link #drain} hands
+ * them to the subscribers in order after the step; events posted while draining are delivered in the same drain.
+ */
+public class GameEvents
+{
+    /** The player landed on a ground. Argument: ground id. */
+    public static final int PLAYER_LANDED = 0;
+    /** A ground was touched for the first time. Argument: ground id. */
+    public static final int GROUND_TOUCHED = 1;
+    /** Argument: new score. */
+    public static final int SCORE_CHANGED = 2;
+    /** Argument: new stage. */
+    public static final int STAGE_CHANGED = 3;
+    public static final int GAME_CLEARED = 4;
+    /** Argument: coins collected so far in the run. */
+    public static final int COIN_COLLECTED = 5;
+    /** The player reached the flag at the start of a stage. Argument: current stage. */
+    public static final int CHECKPOINT_REACHED = 6;
+    /** The player ran into a hazard, which ends the run. */
+    public static final int HAZARD_HIT = 7;
+    /** The player was launched. Argument: jumps used since the last landing. */
+    public static final int PLAYER_LAUNCHED = 8;
+
+    public interface Subscriber
+    {
+        void onEvent(int type, int argument);
+    }
+
+    private final Array<Subscriber> subscribers = new Array<>(false, 4);
+    private int[] types;
+    private int[] arguments;
+    private int head = 0;
+    private int size = 0;
+
+    public GameEvents()
+    {
+        this(64);
+    }
+
+    /** @param capacity rounded up to a power of two */
+    public GameEvents(int capacity)
+    {
+        capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        types = new int[capacity];
+        arguments = new int[capacity];
+    }
+
+    /** Subscribers are called in the order they were added. */
+    public void subscribe(Subscriber subscriber)
+    {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Subscriber subscriber)
+    {
+        subscribers.removeValue(subscriber, true);
+    }
+
+    public void post(int type, int argument)
+    {
+        if (size == types.length) grow();
+        int slot = (head + size) & (types.length - 1);
+        types[slot] = type;
+        arguments[slot] = argument;
+        size++;
+    }
+
+    public void post(int type)
+    {
+        post(type, 0);
+    }
+
+    /** Only happens if far more events are posted in one step than expected. */
+    private void grow()
+    {
+        int[] newTypes = new int[types.length * 2];
+        int[] newArguments = new int[types.length * 2];
+        for (int i = 0; i < size; i++)
+        {
+            int slot = (head + i) & (types.length - 1);
+            newTypes[i] = types[slot];
+            newArguments[i] = arguments[slot];
+        }
+        types = newTypes;
+        arguments = newArguments;
+        head = 0;
+    }
+
+    /** Delivers every pending event to every subscriber. */
+    public void drain()
+    {
+        while (size > 0)
+        {
+            int type = types[head];
+            int argument = arguments[head];
+            head = (head + 1) & (types.length - 1);
+            size--;
+
+            for (int i = 0; i < subscribers.size; i++)
+            {
+                subscribers.get(i).onEvent(type, argument);
+            }
+        }
+    }
+
+    /** Drops pending events without delivering them. */
+    public void clear()
+    {
+        head = 0;
+        size = 0;
+    }
+
+    public int getPendingCount()
+    {
+        return size;
+    }
+}
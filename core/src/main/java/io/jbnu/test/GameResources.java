@@ -0,0 +1,89 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * GPU resources, fonts and assets shared for the lifetime of the application, owned by {@link Main}. Files are loaded
+ * asynchronously through an {@link AssetManager}; the sprite regions are only available after
+ * {@link #finishLoading()} has returned true.
+ */
+public class GameResources implements Disposable
+{
+    public static final AssetDescriptor<TextureAtlas> ATLAS =
+        new AssetDescriptor<>("atlas/game.atlas", TextureAtlas.class);
+    public static final AssetDescriptor<Sound> DROP_SOUND = new AssetDescriptor<>("drop.mp3", Sound.class);
+    public static final AssetDescriptor<Music> MUSIC = new AssetDescriptor<>("music.mp3", Music.class);
+
+    /** Milliseconds per frame the loading screen may spend loading. */
+    private static final int LOAD_BUDGET_MILLIS = 8;
+
+    public final AssetManager assets;
+    public final SpriteBatch batch;
+    public final BitmapFont font;
+    public final BitmapFont gameClearFont; // 게임 클리어용 폰트
+    public final GroundRenderer groundRenderer;
+    public final Box2DDebugRenderer debugRenderer;
+
+    public TextureRegion pauseRegion;
+    public TextureRegion coinRegion;
+    /** A single opaque white texel, for solid shapes tinted with the batch colour. */
+    public TextureRegion whiteRegion;
+
+    public GameResources()
+    {
+        assets = new AssetManager();
+        assets.load(ATLAS);
+        assets.load(DROP_SOUND);
+        assets.load(MUSIC);
+
+        batch = new SpriteBatch();
+        font = new BitmapFont();
+        font.setColor(Color.WHITE);
+
+        gameClearFont = new BitmapFont();
+        gameClearFont.setColor(Color.YELLOW);
+        gameClearFont.getData().setScale(3.0f); // 폰트 크기 3배
+
+        groundRenderer = new GroundRenderer();
+        debugRenderer = new Box2DDebugRenderer();
+    }
+
+    /** Loads for at most a few milliseconds. Returns true once every asset is loaded and the regions are set. */
+    public boolean finishLoading()
+    {
+        if (pauseRegion != null) return true;
+        if (!assets.update(LOAD_BUDGET_MILLIS)) return false;
+
+        TextureAtlas atlas = assets.get(ATLAS);
+        pauseRegion = atlas.findRegion("pause");
+        coinRegion = atlas.findRegion("coin");
+        whiteRegion = atlas.findRegion("white");
+        return true;
+    }
+
+    public float getProgress()
+    {
+        return assets.getProgress();
+    }
+
+    @Override
+    public void dispose()
+    {
+        assets.dispose();
+        batch.dispose();
+        font.dispose();
+        gameClearFont.dispose();
+        groundRenderer.dispose();
+        debugRenderer.dispose();
+    }
+}
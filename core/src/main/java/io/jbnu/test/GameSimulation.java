@@ -0,0 +1,697 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.concurrent.Executor;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * The game rules without any rendering or input polling: the physics world, the player, ground generation, coins,
+ * flags and hazards, scoring and stages. Physics goes through a {@link PhysicsBackend}, Box2D unless another
+ * {@link PhysicsType} is chosen. It is advanced in fixed steps of {@link #TIME_STEP} and only depends on its seed
+ * and the {@link SimulationInput} given to each step, so it can run headless and reproduce a run exactly. Trigonometry
+ * that decides entity placement and pickups goes through {@link StrictMath}, which gives the same bits on every JVM.
+ */
+public class GameSimulation implements Disposable
+{
+    public static final float TIME_STEP = 1 / 60f;
+    public static final float PLAYER_HALF_WIDTH = 0.4f;
+    public static final float PLAYER_HALF_HEIGHT = 0.4f;
+    private static final float PLAYER_START_X = 2f;
+    private static final float PLAYER_START_Y = 5f;
+    private static final float PLAYER_DENSITY = 1.0f;
+    private static final float PLAYER_FRICTION = 0.7f;
+    private static final float PLAYER_RESTITUTION = 0.1f;
+    public static final float COIN_HALF_SIZE = 0.25f;
+    private static final float COIN_SPACING = 0.7f;
+    /** Height of a row of coins above the centre of its platform. */
+    private static final float COIN_HEIGHT = 1.5f;
+    private static final int COIN_SCORE = 20;
+    public static final float FLAG_HALF_WIDTH = 0.15f;
+    public static final float FLAG_HALF_HEIGHT = 0.6f;
+    public static final float HAZARD_HALF_WIDTH = 0.35f;
+    public static final float HAZARD_HALF_HEIGHT = 0.15f;
+
+    private final float FORCE_MULTIPLIER = 100.0f;
+    private final float MAX_DRAG_DISTANCE = 3.0f;
+    private final int MAX_JUMPS = 2;
+    private final float GROUND_HEIGHT = 0.5f;
+    /** How far past the right edge of the view grounds are generated. They stay inactive until the player nears. */
+    private final float GENERATE_DISTANCE = 10f;
+    public static final float DEFAULT_ACTIVE_BEHIND = 4f;
+    public static final float DEFAULT_ACTIVE_AHEAD = 8f;
+    private final float REMOVE_DISTANCE = 5f;
+    private final int GROUND_POOL_SIZE = 32;
+    public static final int MAX_GROUNDS_PER_STEP = 4;
+
+    private long seed;
+    private StageTable stages;
+    private final LevelGenerator levelGenerator;
+    private final float viewWidth;
+    private final float viewHeight;
+    private final PhysicsType physicsType;
+    private final PhysicsBackend physics;
+    private final GroundData groundData = new GroundData(GROUND_POOL_SIZE * 2);
+    private final GroundTrack grounds = new GroundTrack(GROUND_POOL_SIZE);
+    private final EntityTrack entities = new EntityTrack();
+    private final Vector2 defaultGravity = new Vector2(0, -5.0f);
+    private final Vector2 boostedGravity = new Vector2(defaultGravity).scl(2.0f);
+    private final GameEvents events = new GameEvents();
+    private MetricsRegistry metrics;
+
+    private long tick = 0;
+    private float viewX;
+    private float previousViewX;
+    private final Vector2 previousPlayerPosition = new Vector2();
+    private float previousPlayerAngle;
+    private float nextGroundX = 5f;
+    private int retiredLastStep = 0;
+    private float activeBehind = DEFAULT_ACTIVE_BEHIND;
+    private float activeAhead = DEFAULT_ACTIVE_AHEAD;
+    // 활성화된 발판의 범위, grounds 안의 인덱스 [activeFirst, activeEnd)
+    private int activeFirst = 0;
+    private int activeEnd = 0;
+    private long retiredTotal = 0;
+    private boolean gravityBoosted = false;
+    private boolean isDragging = false;
+    private final Vector2 touchStartPos = new Vector2();
+    private final Vector2 dragVector = new Vector2();
+    private int jumpCount = 0;
+    private int score = 0;
+    private int stage = 1;
+    /** Stage whose first platform got the last flag. Stage 1 starts at the start platform and has none. */
+    private int flagStage = 1;
+    private int coinsCollected = 0;
+    private boolean isGameClear = false;
+    private boolean isGameOver = false;
+
+    /**
+     * @param viewWidth width of the visible world area, which decides how far ahead grounds are generated
+     * @param viewHeight height of the visible world area, which decides when the player has fallen out
+     */
+    public GameSimulation(long seed, float viewWidth, float viewHeight)
+    {
+        this(seed, viewWidth, viewHeight, Runnable::run);
+    }
+
+    /**
+     * @param generatorExecutor runs level generation; a background executor keeps it off the calling thread
+     */
+    public GameSimulation(long seed, float viewWidth, float viewHeight, Executor generatorExecutor)
+    {
+        this(seed, viewWidth, viewHeight, generatorExecutor, new BalanceSettings());
+    }
+
+    /**
+     * @param settings tuning values, turned into a {@link StageTable} so later changes to the instance don't affect
+     *                 this simulation
+     */
+    public GameSimulation(long seed, float viewWidth, float viewHeight, Executor generatorExecutor,
+                          BalanceSettings settings)
+    {
+        this(seed, viewWidth, viewHeight, generatorExecutor, settings.toStageTable(), PhysicsType.BOX2D);
+    }
+
+    /**
+     * @param stages the stage rules
+     * @param physicsType which {@link PhysicsBackend} to run on. Runs on different backends play out differently.
+     */
+    public GameSimulation(long seed, float viewWidth, float viewHeight, Executor generatorExecutor,
+                          StageTable stages, PhysicsType physicsType)
+    {
+        this.seed = seed;
+        this.physicsType = physicsType;
+        this.stages = stages;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+
+        viewX = viewWidth / 4f;
+        previousViewX = viewX;
+
+        physics = physicsType.create(events, GROUND_POOL_SIZE);
+        physics.setGravity(defaultGravity);
+        events.subscribe(this::applyRules);
+
+        physics.createPlayer(PLAYER_START_X, PLAYER_START_Y, PLAYER_HALF_WIDTH, PLAYER_HALF_HEIGHT, PLAYER_DENSITY,
+            PLAYER_FRICTION, PLAYER_RESTITUTION);
+        previousPlayerPosition.set(physics.getPlayerPosition());
+        previousPlayerAngle = physics.getPlayerAngle();
+
+        // 최대 세기로 발사했을 때 평지에서 날아가는 거리. 다음 발판이 닿을 수 있는 곳인지 이것으로 판단한다
+        float launchSpeed = MAX_DRAG_DISTANCE * FORCE_MULTIPLIER * TIME_STEP / physics.getPlayerMass();
+        float launchRange = launchSpeed * launchSpeed / -defaultGravity.y;
+        levelGenerator = new LevelGenerator(seed, generatorExecutor, launchRange, stages);
+        createInitialGrounds();
+        updateActiveWindow();
+    }
+
+    /**
+     * Game events posted during a step, drained right after the physics step. The simulation's own rules are the
+     * first subscriber, so later subscribers see the events those rules post, such as score and stage changes.
+     */
+    public GameEvents getEvents()
+    {
+        return events;
+    }
+
+    /** Times the physics step, generation and removal into the given registry, or stops timing if null. */
+    public void setMetrics(MetricsRegistry metrics)
+    {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Restarts the game in place with a new seed: grounds are removed, the player is moved to the start and score,
+     * stage and generation start over. No physics world, player or GL resource is recreated.
+     */
+    public void reset(long seed)
+    {
+        this.seed = seed;
+        events.clear();
+        while (grounds.size() > 0)
+        {
+            removeGround(grounds.removeFirst());
+        }
+        activeFirst = 0;
+        activeEnd = 0;
+        entities.clear();
+        levelGenerator.reset(seed);
+
+        physics.setPlayerTransform(PLAYER_START_X, PLAYER_START_Y, 0);
+        physics.setPlayerVelocity(0, 0);
+        physics.setPlayerAngularVelocity(0);
+        gravityBoosted = false;
+        physics.setGravity(defaultGravity);
+
+        tick = 0;
+        viewX = viewWidth / 4f;
+        previousViewX = viewX;
+        previousPlayerPosition.set(physics.getPlayerPosition());
+        previousPlayerAngle = physics.getPlayerAngle();
+        isDragging = false;
+        jumpCount = 0;
+        score = 0;
+        stage = 1;
+        flagStage = 1;
+        coinsCollected = 0;
+        isGameClear = false;
+        isGameOver = false;
+
+        createInitialGrounds();
+        updateActiveWindow();
+    }
+
+    private void createInitialGrounds()
+    {
+        addGround(2, 2, 4, GROUND_HEIGHT, 0, 0.6f);
+        nextGroundX = 2f + 2f + levelGenerator.startGap();
+    }
+
+    private void addGround(float x, float y, float width, float height, float angle, float friction)
+    {
+        int id = groundData.allocate();
+        groundData.set(id, friction, width, height);
+        physics.addGround(id, x, y, width, height, angle, friction);
+        grounds.addLast(id, x, y, width, height, angle, groundData.getPackedColor(id));
+    }
+
+    private void removeGround(int id)
+    {
+        physics.removeGround(id);
+        groundData.release(id);
+    }
+
+    /** Advances the game by one fixed step. Does nothing once the game is over or cleared. */
+    public void step(SimulationInput input)
+    {
+        if (isGameOver || isGameClear) return;
+
+        previousPlayerPosition.set(physics.getPlayerPosition());
+        previousPlayerAngle = physics.getPlayerAngle();
+        previousViewX = viewX;
+
+        applyInput(input);
+
+        if (metrics != null) metrics.begin(MetricsRegistry.STEP);
+        physics.step(TIME_STEP);
+        if (metrics != null) metrics.end(MetricsRegistry.STEP);
+        tick++;
+
+        touchEntities();
+        // 접촉 콜백에서 쌓인 이벤트는 스텝이 끝난 뒤 한 번에 처리한다
+        events.drain();
+
+        if (metrics != null) metrics.begin(MetricsRegistry.GENERATION);
+        generateGrounds();
+        if (metrics != null) metrics.end(MetricsRegistry.GENERATION);
+
+        if (metrics != null) metrics.begin(MetricsRegistry.REMOVAL);
+        updateActiveWindow();
+        removeOldGrounds();
+        if (metrics != null) metrics.end(MetricsRegistry.REMOVAL);
+
+        Vector2 playerPosition = physics.getPlayerPosition();
+        float targetX = playerPosition.x + viewWidth / 4f;
+        viewX += (targetX - viewX) * 0.1f;
+
+        if (playerPosition.y < getViewY() - viewHeight / 2f - 2f)
+        {
+            isGameOver = true;
+        }
+    }
+
+    private void applyInput(SimulationInput input)
+    {
+        if (input.boost != gravityBoosted)
+        {
+            gravityBoosted = input.boost;
+            physics.setGravity(gravityBoosted ? boostedGravity : defaultGravity);
+        }
+
+        if (input.pointerDown)
+        {
+            if (!isDragging && canGrab(input.pointerX, input.pointerY))
+            {
+                isDragging = true;
+                touchStartPos.set(physics.getPlayerPosition());
+            }
+        }
+        else if (isDragging)
+        {
+            isDragging = false;
+            jumpCount++;
+
+            dragVector.set(touchStartPos).sub(input.pointerX, input.pointerY);
+
+            if (dragVector.len() > MAX_DRAG_DISTANCE)
+            {
+                dragVector.setLength(MAX_DRAG_DISTANCE);
+            }
+
+            float forceMagnitude = dragVector.len() * FORCE_MULTIPLIER;
+
+            dragVector.setLength(forceMagnitude);
+            physics.setPlayerVelocity(0, 0);
+            physics.applyPlayerForce(dragVector.x, dragVector.y);
+            events.post(GameEvents.PLAYER_LAUNCHED, jumpCount);
+        }
+    }
+
+    /** Turns ready platform descriptors into bodies, at most {@link #MAX_GROUNDS_PER_STEP} per step. */
+    void generateGrounds()
+    {
+        int created = 0;
+        while (created < MAX_GROUNDS_PER_STEP && nextGroundX < viewX + viewWidth / 2f + GENERATE_DISTANCE)
+        {
+            PlatformChunk chunk = levelGenerator.next(stage);
+            int i = levelGenerator.index();
+            float width = chunk.width[i];
+
+            addGround(nextGroundX + width / 2, chunk.y[i], width, GROUND_HEIGHT, chunk.angle[i], chunk.friction[i]);
+            addEntities(nextGroundX + width / 2, chunk, i);
+
+            nextGroundX += width + chunk.gapAfter[i];
+            created++;
+        }
+    }
+
+    /**
+     * Places what stands on a new platform: a flag on the left edge of the first platform of each stage, otherwise
+     * its coins in a row above the centre, and a hazard on the right end. They are added left to right, within the
+     * platform's bounds, so the track stays sorted.
+     */
+    private void addEntities(float x, PlatformChunk chunk, int i)
+    {
+        float y = chunk.y[i];
+        float halfWidth = chunk.width[i] / 2;
+        float halfHeight = GROUND_HEIGHT / 2;
+
+        if (chunk.stage > flagStage)
+        {
+            flagStage = chunk.stage;
+            float cos = (float) StrictMath.cos(chunk.angle[i]);
+            float sin = (float) StrictMath.sin(chunk.angle[i]);
+            // 발판 윗면의 왼쪽 끝에 깃대를 세운다
+            float baseX = x - halfWidth * cos - halfHeight * sin;
+            float baseY = y - halfWidth * sin + halfHeight * cos;
+            entities.addLast(EntityCategory.FLAG, baseX, baseY + FLAG_HALF_HEIGHT, FLAG_HALF_WIDTH, FLAG_HALF_HEIGHT);
+        }
+        else
+        {
+            int coins = chunk.coins[i];
+            for (int c = 0; c < coins; c++)
+            {
+                entities.addLast(EntityCategory.COIN, x + (c - (coins - 1) / 2f) * COIN_SPACING, y + COIN_HEIGHT,
+                    COIN_HALF_SIZE, COIN_HALF_SIZE);
+            }
+        }
+
+        if (chunk.hazard[i])
+        {
+            entities.addLast(EntityCategory.HAZARD, x + halfWidth - HAZARD_HALF_WIDTH - 0.1f,
+                y + halfHeight + HAZARD_HALF_HEIGHT, HAZARD_HALF_WIDTH, HAZARD_HALF_HEIGHT);
+        }
+    }
+
+    /**
+     * Tests the player's bounding box against the entities near it. Only the few entries overlapping it in x are
+     * visited, found by binary search, however many are alive.
+     */
+    private void touchEntities()
+    {
+        Vector2 position = physics.getPlayerPosition();
+        float angle = physics.getPlayerAngle();
+        float cos = Math.abs((float) StrictMath.cos(angle));
+        float sin = Math.abs((float) StrictMath.sin(angle));
+        float extentX = PLAYER_HALF_WIDTH * cos + PLAYER_HALF_HEIGHT * sin;
+        float extentY = PLAYER_HALF_WIDTH * sin + PLAYER_HALF_HEIGHT * cos;
+
+        float right = position.x + extentX;
+        for (int i = entities.firstReaching(position.x - extentX); i < entities.size(); i++)
+        {
+            float x = entities.getX(i);
+            if (x - EntityTrack.MAX_HALF_WIDTH > right) break;
+            if (entities.isTaken(i)) continue;
+            if (Math.abs(position.x - x) >= extentX + entities.getHalfWidth(i)) continue;
+            if (Math.abs(position.y - entities.getY(i)) >= extentY + entities.getHalfHeight(i)) continue;
+
+            switch (entities.getCategory(i))
+            {
+                case EntityCategory.COIN:
+                    entities.setTaken(i);
+                    coinsCollected++;
+                    events.post(GameEvents.COIN_COLLECTED, coinsCollected);
+                    addScore(COIN_SCORE);
+                    break;
+                case EntityCategory.FLAG:
+                    entities.setTaken(i);
+                    events.post(GameEvents.CHECKPOINT_REACHED, stage);
+                    break;
+                case EntityCategory.HAZARD:
+                    isGameOver = true;
+                    events.post(GameEvents.HAZARD_HIT);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Only grounds overlapping the window around the player take part in physics. Grounds are sorted, so the window
+     * is an index range found by binary search, and only grounds entering or leaving it are switched, which keeps
+     * the broad-phase down to a handful of bodies however far ahead grounds are generated.
+     */
+    void updateActiveWindow()
+    {
+        float playerX = physics.getPlayerPosition().x;
+        int first = grounds.firstReaching(playerX - activeBehind);
+        int end = Math.max(first, grounds.endBefore(playerX + activeAhead));
+
+        for (int i = activeFirst; i < Math.min(activeEnd, first); i++)
+        {
+            physics.setGroundActive(grounds.getId(i), false);
+        }
+        for (int i = Math.max(activeFirst, end); i < activeEnd; i++)
+        {
+            physics.setGroundActive(grounds.getId(i), false);
+        }
+        for (int i = first; i < end; i++)
+        {
+            if (i < activeFirst || i >= activeEnd) physics.setGroundActive(grounds.getId(i), true);
+        }
+        activeFirst = first;
+        activeEnd = end;
+    }
+
+    /**
+     * Sets the window around the player in which grounds are active. It must reach further ahead than the player
+     * can travel in one step.
+     */
+    public void setActiveWindow(float behind, float ahead)
+    {
+        activeBehind = behind;
+        activeAhead = ahead;
+        updateActiveWindow();
+    }
+
+    /** Number of grounds currently taking part in physics. */
+    public int getActiveGroundCount()
+    {
+        return activeEnd - activeFirst;
+    }
+
+    /**
+     * Grounds are generated left to right, so their right edges are in increasing order and the ones that have
+     * scrolled out are always at the front of the track. How many to retire is found with a binary search over the
+     * cached bounds, so the physics is never queried.
+     */
+    void removeOldGrounds()
+    {
+        float removeX = viewX - viewWidth / 2f - REMOVE_DISTANCE;
+        retiredLastStep = grounds.firstReaching(removeX);
+        for (int i = 0; i < retiredLastStep; i++)
+        {
+            removeGround(grounds.removeFirst());
+        }
+        retiredTotal += retiredLastStep;
+        entities.removeFirst(entities.firstCentreAtOrAfter(removeX));
+        activeFirst = Math.max(0, activeFirst - retiredLastStep);
+        activeEnd = Math.max(0, activeEnd - retiredLastStep);
+    }
+
+    /** Moves the view without stepping physics. Used by the benchmarks to drive generation and removal directly. */
+    void moveView(float distance)
+    {
+        viewX += distance;
+    }
+
+    private void applyRules(int type, int argument)
+    {
+        if (type == GameEvents.PLAYER_LANDED)
+        {
+            resetJumpCount();
+            if (groundData.touch(argument))
+            {
+                events.post(GameEvents.GROUND_TOUCHED, argument);
+                addScore(100);
+            }
+        }
+    }
+
+    /**
+     * Switches to new stage rules mid-run. Scores from now on are staged with the new table; platforms already
+     * generated keep the old rules. A run recorded across the switch doesn't replay exactly.
+     */
+    public void setStageTable(StageTable stages)
+    {
+        this.stages = stages;
+        levelGenerator.setStages(stages);
+    }
+
+    public StageTable getStageTable()
+    {
+        return stages;
+    }
+
+    public void resetJumpCount()
+    {
+        jumpCount = 0;
+    }
+
+    public void addScore(int amount)
+    {
+        if (isGameClear) return;
+
+        score += amount;
+        events.post(GameEvents.SCORE_CHANGED, score);
+
+        if (score >= stages.getClearScore())
+        {
+            isGameClear = true;
+            events.post(GameEvents.GAME_CLEARED);
+        }
+
+        if (!isGameClear)
+        {
+            int calculatedStage = stages.stageForScore(score);
+            if (calculatedStage > stage)
+            {
+                stage = calculatedStage;
+                events.post(GameEvents.STAGE_CHANGED, stage);
+            }
+        }
+    }
+
+    /** Hash of the simulation state, for checking that two runs from the same seed are bit-identical. */
+    public long stateHash()
+    {
+        Vector2 position = physics.getPlayerPosition();
+        Vector2 velocity = physics.getPlayerVelocity();
+        long hash = seed;
+        hash = hash * 31 + tick;
+        hash = hash * 31 + Float.floatToIntBits(position.x);
+        hash = hash * 31 + Float.floatToIntBits(position.y);
+        hash = hash * 31 + Float.floatToIntBits(velocity.x);
+        hash = hash * 31 + Float.floatToIntBits(velocity.y);
+        hash = hash * 31 + Float.floatToIntBits(physics.getPlayerAngle());
+        hash = hash * 31 + Float.floatToIntBits(viewX);
+        hash = hash * 31 + Float.floatToIntBits(nextGroundX);
+        hash = hash * 31 + score;
+        hash = hash * 31 + stage;
+        hash = hash * 31 + coinsCollected;
+        return hash;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public long getTick()
+    {
+        return tick;
+    }
+
+    public PhysicsType getPhysicsType()
+    {
+        return physicsType;
+    }
+
+    public PhysicsBackend getPhysics()
+    {
+        return physics;
+    }
+
+    /** The player's position. Owned by the physics backend, must not be modified. */
+    public Vector2 getPlayerPosition()
+    {
+        return physics.getPlayerPosition();
+    }
+
+    /** The player's velocity. Owned by the physics backend, must not be modified. */
+    public Vector2 getPlayerVelocity()
+    {
+        return physics.getPlayerVelocity();
+    }
+
+    public float getPlayerAngle()
+    {
+        return physics.getPlayerAngle();
+    }
+
+    /** Live grounds ordered from left to right, with their cached bounds. */
+    public GroundTrack getGrounds()
+    {
+        return grounds;
+    }
+
+    /** Live coins, flags and hazards ordered from left to right. */
+    public EntityTrack getEntities()
+    {
+        return entities;
+    }
+
+    public int getCoinsCollected()
+    {
+        return coinsCollected;
+    }
+
+    public int getRetiredLastStep()
+    {
+        return retiredLastStep;
+    }
+
+    /** Number of grounds retired since the start of the run, for per-frame debug counters. */
+    public long getRetiredTotal()
+    {
+        return retiredTotal;
+    }
+
+    public GroundData getGroundData()
+    {
+        return groundData;
+    }
+
+    public Vector2 getPreviousPlayerPosition()
+    {
+        return previousPlayerPosition;
+    }
+
+    public float getPreviousPlayerAngle()
+    {
+        return previousPlayerAngle;
+    }
+
+    /** Centre of the visible area, which follows the player. */
+    public float getViewX()
+    {
+        return viewX;
+    }
+
+    public float getPreviousViewX()
+    {
+        return previousViewX;
+    }
+
+    public float getViewY()
+    {
+        return viewHeight / 2f;
+    }
+
+    public float getViewWidth()
+    {
+        return viewWidth;
+    }
+
+    public float getViewHeight()
+    {
+        return viewHeight;
+    }
+
+    /** How far right of its start the player has come. */
+    public float getDistance()
+    {
+        return physics.getPlayerPosition().x - PLAYER_START_X;
+    }
+
+    public int getJumpCount()
+    {
+        return jumpCount;
+    }
+
+    public boolean isDragging()
+    {
+        return isDragging;
+    }
+
+    /** Whether a press at this point would grab the player for a launch on the next step. */
+    public boolean canGrab(float x, float y)
+    {
+        return jumpCount < MAX_JUMPS && physics.playerContains(x, y);
+    }
+
+    public int getScore()
+    {
+        return score;
+    }
+
+    public int getStage()
+    {
+        return stage;
+    }
+
+    public boolean isGameClear()
+    {
+        return isGameClear;
+    }
+
+    public boolean isGameOver()
+    {
+        return isGameOver;
+    }
+
+    @Override
+    public void dispose()
+    {
+        physics.dispose();
+    }
+}
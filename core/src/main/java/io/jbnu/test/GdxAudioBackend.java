@@ -0,0 +1,60 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+
+/**
+ * Plays through {@code Gdx.audio}. Effects are {@link Sound}s the {@link AssetManager} has already loaded and decoded
+ * into memory, looked up once here, so playing one only starts a voice. The soundtrack is a streamed {@link Music}.
+ * The assets belong to the manager, so disposing this only stops the music.
+ */
+public class GdxAudioBackend implements AudioBackend
+{
+    private static final float MUSIC_VOLUME = 0.4f;
+
+    private final Sound[] sounds = new Sound[SoundEffect.values().length];
+    private final Music music;
+
+    public GdxAudioBackend(AssetManager assets)
+    {
+        for (SoundEffect effect : SoundEffect.values())
+        {
+            sounds[effect.ordinal()] = assets.get(effect.asset);
+        }
+        music = assets.get(GameResources.MUSIC);
+        music.setLooping(true);
+        music.setVolume(MUSIC_VOLUME);
+    }
+
+    @Override
+    public long play(SoundEffect effect)
+    {
+        return sounds[effect.ordinal()].play(effect.volume, effect.pitch, 0f);
+    }
+
+    @Override
+    public void stop(SoundEffect effect, long voice)
+    {
+        sounds[effect.ordinal()].stop(voice);
+    }
+
+    @Override
+    public void setMusicPlaying(boolean playing)
+    {
+        if (playing)
+        {
+            music.play();
+        }
+        else
+        {
+            music.pause();
+        }
+    }
+
+    @Override
+    public void dispose()
+    {
+        music.stop();
+    }
+}
@@ -1,7 +1,5 @@
 package io.jbnu.test;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.*;
 
 public class Ground {
@@ -10,43 +8,18 @@ public class Ground {
     public static final float FRICTION_HIGH = 100.0f;
     public static final float FRICTION_LOW = 0.05f;
 
-    public static class GroundUserData
-    {
-        public float friction;
-        public Color color;
-        public boolean touched;
-        public String type = "ground";
-        public float width;
-        public float height;
-
-        public GroundUserData(float friction, float width, float height)
-        {
-            this.friction = friction;
-            this.width = width;
-            this.height = height;
-            this.touched = false;
-
-            if (friction == FRICTION_HIGH)
-            {
-                this.color = Color.BLACK;
-            }
-            else if (friction == FRICTION_LOW)
-            {
-                this.color = Color.CYAN;
-            }
-            else
-            {
-                this.color = Color.GREEN;
-            }
-        }
-    }
-
-    public static Body createGround(World world, float x, float y, float width, float height, float angle, float friction)
+    /**
+     * Creates a ground body whose fixture carries {@code id}, its index into {@link GroundData}. An inactive body is
+     * kept out of the broad-phase until it is activated.
+     */
+    public static Body createGround(World world, int id, float x, float y, float width, float height, float angle,
+                                    float friction, boolean active)
     {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.StaticBody;
         bodyDef.position.set(x, y);
         bodyDef.angle = angle;
+        bodyDef.active = active;
 
         Body body = world.createBody(bodyDef);
 
@@ -56,10 +29,38 @@ public class Ground {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.friction = friction;
+        fixtureDef.filter.categoryBits = EntityCategory.GROUND;
+        fixtureDef.filter.maskBits = EntityCategory.GROUND_MASK;
 
-        GroundUserData userData = new GroundUserData(friction, width, height);
-        body.createFixture(fixtureDef).setUserData(userData);
+        body.createFixture(fixtureDef).setUserData(id);
         shape.dispose();
         return body;
     }
+
+    /**
+     * Reuses a ground body created by {@link #createGround} for a new platform: the existing box fixture is
+     * reshaped in place, given the new id and the body is moved, so no native body or fixture is allocated. The body
+     * stays inactive; moving an inactive body doesn't touch the broad-phase.
+     */
+    public static void resetGround(Body body, int id, float x, float y, float width, float height, float angle,
+                                   float friction)
+    {
+        Fixture fixture = body.getFixtureList().first();
+        ((PolygonShape) fixture.getShape()).setAsBox(width / 2, height / 2);
+        fixture.setFriction(friction);
+        fixture.setUserData(id);
+
+        body.setTransform(x, y, angle);
+    }
+
+    /** The {@link GroundData} id of a ground fixture. */
+    public static int getId(Fixture fixture)
+    {
+        return (Integer) fixture.getUserData();
+    }
+
+    public static int getId(Body body)
+    {
+        return getId(body.getFixtureList().first());
+    }
 }
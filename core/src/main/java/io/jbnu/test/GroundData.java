@@ -0,0 +1,131 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Per-platform metadata kept in parallel primitive arrays, indexed by an int id. The id is what the
+ * {@link PhysicsBackend} knows a ground by; Box2D carries it as the fixture user data. An id is allocated when a
+ * platform is added and released when it is removed, so ids stay few and dense however long a run lasts.
+ */
+public class GroundData
+{
+    public static final int COLOR_NORMAL = 0;
+    public static final int COLOR_HIGH_FRICTION = 1;
+    public static final int COLOR_LOW_FRICTION = 2;
+
+    private static final float[] PACKED_COLORS = {
+        Color.GREEN.toFloatBits(),
+        Color.BLACK.toFloatBits(),
+        Color.CYAN.toFloatBits()
+    };
+
+    private float[] friction;
+    private float[] width;
+    private float[] height;
+    private byte[] colorIndex;
+    private long[] touched;
+    private final IntArray freeIds = new IntArray();
+    private int nextId = 0;
+
+    public GroundData(int capacity)
+    {
+        capacity = Math.max(64, capacity);
+        friction = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        colorIndex = new byte[capacity];
+        touched = new long[(capacity + 63) >>> 6];
+    }
+
+    /** Returns an unused id, growing the arrays if every id is taken. */
+    public int allocate()
+    {
+        if (freeIds.size > 0) return freeIds.pop();
+
+        int id = nextId++;
+        if (id == friction.length) grow();
+        return id;
+    }
+
+    public void release(int id)
+    {
+        freeIds.add(id);
+    }
+
+    private void grow()
+    {
+        int capacity = friction.length * 2;
+        float[] newFriction = new float[capacity];
+        float[] newWidth = new float[capacity];
+        float[] newHeight = new float[capacity];
+        byte[] newColorIndex = new byte[capacity];
+        long[] newTouched = new long[(capacity + 63) >>> 6];
+        System.arraycopy(friction, 0, newFriction, 0, friction.length);
+        System.arraycopy(width, 0, newWidth, 0, width.length);
+        System.arraycopy(height, 0, newHeight, 0, height.length);
+        System.arraycopy(colorIndex, 0, newColorIndex, 0, colorIndex.length);
+        System.arraycopy(touched, 0, newTouched, 0, touched.length);
+        friction = newFriction;
+        width = newWidth;
+        height = newHeight;
+        colorIndex = newColorIndex;
+        touched = newTouched;
+    }
+
+    /** Describes a new platform for {@code id} and clears its touched flag. */
+    public void set(int id, float friction, float width, float height)
+    {
+        this.friction[id] = friction;
+        this.width[id] = width;
+        this.height[id] = height;
+        colorIndex[id] = (byte) colorIndexOf(friction);
+        touched[id >>> 6] &= ~(1L << id);
+    }
+
+    public static int colorIndexOf(float friction)
+    {
+        if (friction == Ground.FRICTION_HIGH) return COLOR_HIGH_FRICTION;
+        if (friction == Ground.FRICTION_LOW) return COLOR_LOW_FRICTION;
+        return COLOR_NORMAL;
+    }
+
+    /** Marks the platform as touched. Returns true if this is the first touch. */
+    public boolean touch(int id)
+    {
+        long bit = 1L << id;
+        long word = touched[id >>> 6];
+        touched[id >>> 6] = word | bit;
+        return (word & bit) == 0;
+    }
+
+    public boolean isTouched(int id)
+    {
+        return (touched[id >>> 6] & (1L << id)) != 0;
+    }
+
+    public float getFriction(int id)
+    {
+        return friction[id];
+    }
+
+    public float getWidth(int id)
+    {
+        return width[id];
+    }
+
+    public float getHeight(int id)
+    {
+        return height[id];
+    }
+
+    public int getColorIndex(int id)
+    {
+        return colorIndex[id];
+    }
+
+    public float getPackedColor(int id)
+    {
+        return PACKED_COLORS[colorIndex[id]];
+    }
+}
@@ -0,0 +1,81 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Recycles ground bodies instead of destroying them. Freed bodies are deactivated, which takes them out of the
+ * broad-phase, and are reshaped, relabelled and moved back into place by {@link #obtain}. Only when the pool is empty
+ * is a new Box2D body created, and only when it is full is a freed body actually destroyed.
+ */
+public class GroundPool
+{
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final World world;
+    private final int capacity;
+    private final Array<Body> freeBodies;
+    private int hits = 0;
+    private int misses = 0;
+
+    public GroundPool(World world)
+    {
+        this(world, DEFAULT_CAPACITY);
+    }
+
+    public GroundPool(World world, int capacity)
+    {
+        this.world = world;
+        this.capacity = capacity;
+        this.freeBodies = new Array<>(false, capacity);
+    }
+
+    /** Returns an inactive ground body for the given platform, carrying {@code id}. */
+    public Body obtain(int id, float x, float y, float width, float height, float angle, float friction)
+    {
+        if (freeBodies.size == 0)
+        {
+            misses++;
+            return Ground.createGround(world, id, x, y, width, height, angle, friction, false);
+        }
+
+        hits++;
+        Body body = freeBodies.pop();
+        Ground.resetGround(body, id, x, y, width, height, angle, friction);
+        return body;
+    }
+
+    public void free(Body body)
+    {
+        if (freeBodies.size >= capacity)
+        {
+            world.destroyBody(body);
+            return;
+        }
+
+        body.setActive(false);
+        freeBodies.add(body);
+    }
+
+    public int getFreeCount()
+    {
+        return freeBodies.size;
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    public int getHits()
+    {
+        return hits;
+    }
+
+    /** Number of {@link #obtain} calls that had to create a new Box2D body. */
+    public int getMisses()
+    {
+        return misses;
+    }
+}
@@ -0,0 +1,150 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Draws filled, rotated rectangles in world space. The corners of every rectangle are rotated on the CPU and written
+ * into one reusable vertex array, which is uploaded and drawn with a single call in {@link #end()}. A second call only
+ * happens if more than {@link #MAX_QUADS} rectangles are queued in one frame.
+ */
+public class GroundRenderer implements Disposable
+{
+    public static final int MAX_QUADS = 1024;
+
+    // x, y, packed color
+    private static final int VERTEX_SIZE = 3;
+    private static final int QUAD_SIZE = VERTEX_SIZE * 4;
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "varying vec4 v_color;\n"
+            + "void main()\n"
+            + "{\n"
+            + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "    v_color.a = v_color.a * (255.0 / 254.0);\n"
+            + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying vec4 v_color;\n"
+            + "void main()\n"
+            + "{\n"
+            + "    gl_FragColor = v_color;\n"
+            + "}\n";
+
+    private final Mesh mesh;
+    private final ShaderProgram shader;
+    private final float[] vertices = new float[MAX_QUADS * QUAD_SIZE];
+    private final Matrix4 projection = new Matrix4();
+    private int quadCount = 0;
+    private int drawCalls = 0;
+    private boolean drawing = false;
+
+    public GroundRenderer()
+    {
+        mesh = new Mesh(false, MAX_QUADS * 4, MAX_QUADS * 6,
+            new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            VertexAttribute.ColorPacked());
+
+        short[] indices = new short[MAX_QUADS * 6];
+        for (int i = 0, j = 0; i < indices.length; i += 6, j += 4)
+        {
+            indices[i] = (short) j;
+            indices[i + 1] = (short) (j + 1);
+            indices[i + 2] = (short) (j + 2);
+            indices[i + 3] = (short) (j + 2);
+            indices[i + 4] = (short) (j + 3);
+            indices[i + 5] = (short) j;
+        }
+        mesh.setIndices(indices);
+
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled())
+        {
+            throw new GdxRuntimeException("Couldn't compile ground shader: " + shader.getLog());
+        }
+    }
+
+    public void begin(Matrix4 projectionMatrix)
+    {
+        projection.set(projectionMatrix);
+        quadCount = 0;
+        drawCalls = 0;
+        drawing = true;
+    }
+
+    /** Queues a rectangle centred on (x, y) and rotated by {@code angle} radians. */
+    public void rect(float x, float y, float halfWidth, float halfHeight, float angle, float packedColor)
+    {
+        if (!drawing) throw new IllegalStateException("begin must be called before rect.");
+        if (quadCount == MAX_QUADS) flush();
+
+        float cos = MathUtils.cos(angle);
+        float sin = MathUtils.sin(angle);
+        float wc = halfWidth * cos;
+        float ws = halfWidth * sin;
+        float hc = halfHeight * cos;
+        float hs = halfHeight * sin;
+
+        float[] v = vertices;
+        int i = quadCount * QUAD_SIZE;
+        v[i] = x - wc + hs;
+        v[i + 1] = y - ws - hc;
+        v[i + 2] = packedColor;
+        v[i + 3] = x + wc + hs;
+        v[i + 4] = y + ws - hc;
+        v[i + 5] = packedColor;
+        v[i + 6] = x + wc - hs;
+        v[i + 7] = y + ws + hc;
+        v[i + 8] = packedColor;
+        v[i + 9] = x - wc - hs;
+        v[i + 10] = y - ws + hc;
+        v[i + 11] = packedColor;
+        quadCount++;
+    }
+
+    public void end()
+    {
+        flush();
+        drawing = false;
+    }
+
+    private void flush()
+    {
+        if (quadCount == 0) return;
+
+        mesh.setVertices(vertices, 0, quadCount * QUAD_SIZE);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, quadCount * 6);
+
+        quadCount = 0;
+        drawCalls++;
+    }
+
+    /** Number of draw calls issued between the last {@link #begin} and {@link #end}. */
+    public int getDrawCalls()
+    {
+        return drawCalls;
+    }
+
+    @Override
+    public void dispose()
+    {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,196 @@
+package io.jbnu.test;
+
+/**
+ * The live grounds from left to right, with their bounds mirrored into primitive arrays so rendering and retirement
+ * never have to ask the physics where a platform is. Grounds are static, so an entry is written once when the ground is
+ * added and stays valid until it is removed from the front.
+ * <p>
+ * Platforms are laid out left to right with a gap of at least {@link #MIN_GAP} between them and tilted by at most
+ * {@link #MAX_ANGLE}. The gap is wider than the extra reach such a rotated {@link GameSimulation} ground can have, so
+ * both the left and the right edges of the bounding boxes are in increasing order. That lets {@link #firstReaching}
+ * and {@link #endBefore} find the grounds overlapping an interval with a binary search, however many grounds are
+ * alive.
+ */
+public class GroundTrack
+{
+    /** Smallest gap between two platforms that keeps the bounds sorted. {@link StageTable} rejects smaller ones. */
+    public static final float MIN_GAP = 1f;
+    /** Largest tilt of a platform, in radians, that keeps the bounds sorted. */
+    public static final float MAX_ANGLE = (float) Math.PI / 4;
+
+    private int[] ids;
+    private float[] minX;
+    private float[] maxX;
+    private float[] centerX;
+    private float[] centerY;
+    private float[] halfWidth;
+    private float[] halfHeight;
+    private float[] angle;
+    private float[] color;
+
+    private int head = 0;
+    private int size = 0;
+
+    public GroundTrack()
+    {
+        this(32);
+    }
+
+    /** @param capacity initial capacity, rounded up to a power of two */
+    public GroundTrack(int capacity)
+    {
+        allocate(Math.max(2, Integer.highestOneBit(capacity - 1) << 1));
+    }
+
+    private void allocate(int capacity)
+    {
+        ids = new int[capacity];
+        minX = new float[capacity];
+        maxX = new float[capacity];
+        centerX = new float[capacity];
+        centerY = new float[capacity];
+        halfWidth = new float[capacity];
+        halfHeight = new float[capacity];
+        angle = new float[capacity];
+        color = new float[capacity];
+    }
+
+    /** Adds a ground to the right end. Its bounding box must start right of the previous ground's. */
+    public void addLast(int id, float x, float y, float width, float height, float angle, float packedColor)
+    {
+        if (size == ids.length) grow();
+
+        float halfWidth = width / 2f;
+        float halfHeight = height / 2f;
+        // 활성 범위가 이 경계로 정해지므로 리플레이가 어느 JVM에서나 같도록 StrictMath를 쓴다
+        float extentX = halfWidth * Math.abs((float) StrictMath.cos(angle))
+            + halfHeight * Math.abs((float) StrictMath.sin(angle));
+
+        int slot = (head + size) & (ids.length - 1);
+        ids[slot] = id;
+        minX[slot] = x - extentX;
+        maxX[slot] = x + extentX;
+        centerX[slot] = x;
+        centerY[slot] = y;
+        this.halfWidth[slot] = halfWidth;
+        this.halfHeight[slot] = halfHeight;
+        this.angle[slot] = angle;
+        color[slot] = packedColor;
+        size++;
+    }
+
+    /** Removes the leftmost ground and returns its id. */
+    public int removeFirst()
+    {
+        if (size == 0) throw new IllegalStateException("GroundTrack is empty.");
+        int id = ids[head];
+        head = (head + 1) & (ids.length - 1);
+        size--;
+        return id;
+    }
+
+    private void grow()
+    {
+        int[] oldIds = ids;
+        float[] oldMinX = minX, oldMaxX = maxX, oldCenterX = centerX, oldCenterY = centerY;
+        float[] oldHalfWidth = halfWidth, oldHalfHeight = halfHeight, oldAngle = angle, oldColor = color;
+        int oldMask = oldIds.length - 1;
+
+        allocate(oldIds.length * 2);
+        for (int i = 0; i < size; i++)
+        {
+            int from = (head + i) & oldMask;
+            ids[i] = oldIds[from];
+            minX[i] = oldMinX[from];
+            maxX[i] = oldMaxX[from];
+            centerX[i] = oldCenterX[from];
+            centerY[i] = oldCenterY[from];
+            halfWidth[i] = oldHalfWidth[from];
+            halfHeight[i] = oldHalfHeight[from];
+            angle[i] = oldAngle[from];
+            color[i] = oldColor[from];
+        }
+        head = 0;
+    }
+
+    /** Index of the first ground whose right edge is at or past {@code x}, or {@link #size()} if there is none. */
+    public int firstReaching(float x)
+    {
+        int low = 0;
+        int high = size;
+        int mask = ids.length - 1;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (maxX[(head + mid) & mask] < x) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /** Index after the last ground whose left edge is at or before {@code x}. */
+    public int endBefore(float x)
+    {
+        int low = 0;
+        int high = size;
+        int mask = ids.length - 1;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (minX[(head + mid) & mask] <= x) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int slot(int index)
+    {
+        return (head + index) & (ids.length - 1);
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    /** The {@link GroundData} id of a ground. */
+    public int getId(int index)
+    {
+        return ids[slot(index)];
+    }
+
+    public float getMaxX(int index)
+    {
+        return maxX[slot(index)];
+    }
+
+    public float getX(int index)
+    {
+        return centerX[slot(index)];
+    }
+
+    public float getY(int index)
+    {
+        return centerY[slot(index)];
+    }
+
+    public float getHalfWidth(int index)
+    {
+        return halfWidth[slot(index)];
+    }
+
+    public float getHalfHeight(int index)
+    {
+        return halfHeight[slot(index)];
+    }
+
+    public float getAngle(int index)
+    {
+        return angle[slot(index)];
+    }
+
+    public float getColor(int index)
+    {
+        return color[slot(index)];
+    }
+}
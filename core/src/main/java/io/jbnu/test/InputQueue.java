@@ -0,0 +1,67 @@
+package io.jbnu.test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free queue of input samples from one producer thread to one consumer thread. Samples are copied into
+ * preallocated arrays, so neither side allocates or blocks; when the queue is full new samples are dropped.
+ */
+public class InputQueue
+{
+    private final int mask;
+    private final boolean[] boost;
+    private final boolean[] pointerDown;
+    private final float[] pointerX;
+    private final float[] pointerY;
+    // tail is only written by the producer and head only by the consumer
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /** @param capacity rounded up to a power of two */
+    public InputQueue(int capacity)
+    {
+        capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        mask = capacity - 1;
+        boost = new boolean[capacity];
+        pointerDown = new boolean[capacity];
+        pointerX = new float[capacity];
+        pointerY = new float[capacity];
+    }
+
+    /** Producer side. Returns false if the queue is full and the sample was dropped. */
+    public boolean offer(SimulationInput input)
+    {
+        long t = tail.get();
+        if (t - head.get() > mask) return false;
+
+        int slot = (int) t & mask;
+        boost[slot] = input.boost;
+        pointerDown[slot] = input.pointerDown;
+        pointerX[slot] = input.pointerX;
+        pointerY[slot] = input.pointerY;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /** Consumer side. Copies the oldest sample into {@code input} and returns true, or returns false if empty. */
+    public boolean poll(SimulationInput input)
+    {
+        long h = head.get();
+        if (h == tail.get()) return false;
+
+        int slot = (int) h & mask;
+        input.boost = boost[slot];
+        input.pointerDown = pointerDown[slot];
+        input.pointerX = pointerX[slot];
+        input.pointerY = pointerY[slot];
+        head.lazySet(h + 1);
+        return true;
+    }
+
+    /** Consumer side. Whether the oldest sample presses or releases the pointer compared to {@code input}. */
+    public boolean nextChangesPointer(SimulationInput input)
+    {
+        long h = head.get();
+        return h != tail.get() && pointerDown[(int) h & mask] != input.pointerDown;
+    }
+}
@@ -0,0 +1,7 @@
+package io.jbnu.test;
+
+/** Supplies the input for each simulation step, e.g. from a script or a recording. */
+public interface InputSource
+{
+    void read(long tick, GameSimulation simulation, SimulationInput input);
+}
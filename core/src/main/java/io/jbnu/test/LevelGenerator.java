@@ -0,0 +1,236 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Produces platform descriptors in chunks ahead of the consumer. Chunks are filled on the given executor, one at a
+ * time and in request order, from a single seeded RNG, so the platforms only depend on the seed and on the stage
+ * each chunk was requested for, never on thread timing. With a same-thread executor the generator runs inline.
+ * Coins and hazards are rolled from a second RNG, so the platforms of a seed are the same with or without them.
+ *
+ * <p>Each platform is lowered if needed so a full-strength launch from the previous one can land on it: a launch at
+ * speed v under gravity g reaches horizontal distance d only up to {@code v²/2g - g·d²/2v²} higher, measured from the
+ * previous platform's edge across the rolled gap. Gaps wider than the launch range can't be made reachable this way.
+ * After a stage change the first new platform is checked against the last platform generated, which may have been
+ * skipped.
+ *
+ * <p>{@link #next(int)} and the other public methods must only be called from one consumer thread. If generating a
+ * chunk fails, the chunk is still handed over, carrying the exception, and {@link #next} rethrows it, so the consumer
+ * never waits for a chunk that will not come.
+ */
+public class LevelGenerator
+{
+    public static final int CHUNK_SIZE = 8;
+    /** Chunks requested ahead of the one being consumed. */
+    private static final int LOOKAHEAD = 2;
+    public static final int MAX_COINS = 3;
+    /** Platforms at least this wide and flat can carry a hazard and still leave room to land. */
+    public static final float HAZARD_MIN_WIDTH = 2.5f;
+    private static final long ENTITY_SEED = 0x5DEECE66DL;
+
+    private final float MIN_GROUND_Y = 1f;
+    private final float MAX_GROUND_Y = 6f;
+
+    private final Executor executor;
+    private final RandomXS128 random;
+    private final RandomXS128 entityRandom;
+    private final float launchRange;
+    private volatile StageTable stages;
+
+    // Worker side: only touched by fill().
+    private float lastY;
+    private float lastGap;
+
+    // Consumer side.
+    private final ArrayBlockingQueue<PlatformChunk> ready = new ArrayBlockingQueue<>(LOOKAHEAD);
+    private final Array<PlatformChunk> freeChunks = new Array<>(false, LOOKAHEAD + 1);
+    private int inFlight = 0;
+    private PlatformChunk current;
+    private int currentIndex;
+
+    /**
+     * @param launchRange {@code v²/g} for the full launch speed v and gravity g, the farthest a launch carries on flat
+     *                    ground
+     * @param stages gap, friction and angle rules per stage
+     */
+    public LevelGenerator(long seed, Executor executor, float launchRange, StageTable stages)
+    {
+        this.executor = executor;
+        this.random = new RandomXS128(seed);
+        this.entityRandom = new RandomXS128(seed ^ ENTITY_SEED);
+        this.launchRange = launchRange;
+        this.stages = stages;
+        this.lastY = MIN_GROUND_Y;
+
+        for (int i = 0; i < LOOKAHEAD + 1; i++)
+        {
+            freeChunks.add(new PlatformChunk(this, CHUNK_SIZE));
+        }
+    }
+
+    /**
+     * Starts over with a new seed. Waits for chunks still being generated so the worker is idle before the RNG is
+     * reseeded; at most {@code LOOKAHEAD} chunks are in flight.
+     */
+    public void reset(long seed)
+    {
+        while (inFlight > 0)
+        {
+            freeChunks.add(take());
+            inFlight--;
+        }
+        if (current != null)
+        {
+            freeChunks.add(current);
+            current = null;
+        }
+
+        random.setSeed(seed);
+        entityRandom.setSeed(seed ^ ENTITY_SEED);
+        lastY = MIN_GROUND_Y;
+    }
+
+    /** Draws the gap after the start platform. Must be called before the first {@link #next} after a reset. */
+    public float startGap()
+    {
+        lastGap = random(1.0f, 3.0f);
+        return lastGap;
+    }
+
+    /**
+     * Returns the chunk holding the next platform for {@code stage}; its index is {@link #index()}. Blocks only if the
+     * worker has not finished that chunk yet. Platforms generated for an earlier stage are skipped.
+     */
+    public PlatformChunk next(int stage)
+    {
+        if (current != null && (current.stage != stage || currentIndex + 1 >= current.count))
+        {
+            freeChunks.add(current);
+            current = null;
+        }
+
+        if (current != null)
+        {
+            currentIndex++;
+            return current;
+        }
+
+        while (true)
+        {
+            while (inFlight < LOOKAHEAD)
+            {
+                PlatformChunk chunk = freeChunks.pop();
+                chunk.stage = stage;
+                chunk.count = 0;
+                chunk.failure = null;
+                inFlight++;
+                executor.execute(chunk);
+            }
+
+            PlatformChunk chunk = take();
+            inFlight--;
+
+            if (chunk.failure != null)
+            {
+                Throwable failure = chunk.failure;
+                chunk.failure = null;
+                freeChunks.add(chunk);
+                throw new GdxRuntimeException("Level generation failed", failure);
+            }
+            if (chunk.stage == stage)
+            {
+                current = chunk;
+                currentIndex = 0;
+                return current;
+            }
+            freeChunks.add(chunk);
+        }
+    }
+
+    private PlatformChunk take()
+    {
+        try
+        {
+            return ready.take();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while waiting for level generation", e);
+        }
+    }
+
+    /**
+     * Generates chunks requested from now on with {@code stages}. Each chunk reads the table once, so it never mixes
+     * two tables; chunks already generated keep the old rules.
+     */
+    public void setStages(StageTable stages)
+    {
+        this.stages = stages;
+    }
+
+    /** Index of the platform returned by the last {@link #next} call. */
+    public int index()
+    {
+        return currentIndex;
+    }
+
+    void fill(PlatformChunk chunk)
+    {
+        StageTable stages = this.stages;
+        int stage = chunk.stage;
+        float maxAngle = stages.getMaxAngle(stage);
+        float minGap = stages.getMinGap(stage);
+        float maxGap = stages.getMaxGap(stage);
+        float coinChance = stages.getCoinChance(stage);
+        float hazardChance = stages.getHazardChance(stage);
+        for (int i = 0; i < chunk.capacity(); i++)
+        {
+            float width = random(1.5f, 4.0f);
+            float y = Math.max(MIN_GROUND_Y, Math.min(random(MIN_GROUND_Y, MAX_GROUND_Y), lastY + maxRise(lastGap)));
+
+            int roll = random.nextInt(StageTable.ROLLS);
+            float angle = 0;
+            if (maxAngle > 0 && random.nextFloat() < stages.getSlopeChance(stage, roll))
+            {
+                angle = random(-maxAngle, maxAngle);
+            }
+
+            chunk.width[i] = width;
+            chunk.y[i] = y;
+            chunk.angle[i] = angle;
+            chunk.friction[i] = stages.getFriction(stage, roll);
+            chunk.gapAfter[i] = random(minGap, maxGap);
+            chunk.coins[i] = entityRandom.nextFloat() < coinChance ? 1 + entityRandom.nextInt(MAX_COINS) : 0;
+            chunk.hazard[i] = angle == 0 && width >= HAZARD_MIN_WIDTH && entityRandom.nextFloat() < hazardChance;
+            lastY = y;
+            lastGap = chunk.gapAfter[i];
+        }
+        chunk.count = chunk.capacity();
+    }
+
+    /** Hands a filled or failed chunk to the consumer. Called on the executor after {@link #fill}. */
+    void publish(PlatformChunk chunk)
+    {
+        if (!ready.offer(chunk))
+        {
+            throw new IllegalStateException("More chunks generated than requested.");
+        }
+    }
+
+    /** Highest rise a full-strength launch can clear over a gap of {@code distance}, negative if it must drop. */
+    float maxRise(float distance)
+    {
+        return launchRange / 2 - distance * distance / (2 * launchRange);
+    }
+
+    private float random(float start, float end)
+    {
+        return start + random.nextFloat() * (end - start);
+    }
+}
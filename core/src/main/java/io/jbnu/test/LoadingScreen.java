@@ -0,0 +1,68 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * Shown while {@link GameResources} loads its assets. Loading runs a few milliseconds per frame so the window stays
+ * responsive, and the game screen is only created once everything is in memory.
+ */
+public class LoadingScreen extends ScreenAdapter
+{
+    private static final float BAR_WIDTH = 400f;
+    private static final float BAR_HEIGHT = 16f;
+    private static final float BACKGROUND_COLOR = Color.DARK_GRAY.toFloatBits();
+    private static final float FILL_COLOR = Color.WHITE.toFloatBits();
+
+    private final Main game;
+    private final GameResources resources;
+    private final OrthographicCamera uiCamera;
+
+    public LoadingScreen(Main game, GameResources resources)
+    {
+        this.game = game;
+        this.resources = resources;
+        uiCamera = new OrthographicCamera();
+        uiCamera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    @Override
+    public void render(float delta)
+    {
+        if (resources.finishLoading())
+        {
+            game.assetsLoaded();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float centerX = uiCamera.viewportWidth / 2f;
+        float centerY = uiCamera.viewportHeight / 2f;
+        float fillWidth = BAR_WIDTH * resources.getProgress();
+
+        GroundRenderer renderer = resources.groundRenderer;
+        renderer.begin(uiCamera.combined);
+        renderer.rect(centerX, centerY, BAR_WIDTH / 2f, BAR_HEIGHT / 2f, 0f, BACKGROUND_COLOR);
+        renderer.rect(centerX - BAR_WIDTH / 2f + fillWidth / 2f, centerY, fillWidth / 2f, BAR_HEIGHT / 2f, 0f,
+            FILL_COLOR);
+        renderer.end();
+
+        resources.batch.setProjectionMatrix(uiCamera.combined);
+        resources.batch.begin();
+        resources.font.draw(resources.batch, "Loading...", 0, centerY + BAR_HEIGHT * 2f,
+            uiCamera.viewportWidth, Align.center, false);
+        resources.batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height)
+    {
+        uiCamera.setToOrtho(false, width, height);
+    }
+}
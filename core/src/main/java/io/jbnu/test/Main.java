@@ -1,10 +1,76 @@
 package io.jbnu.test;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 public class Main extends Game {
+    private final PhysicsType physicsType;
+    private final boolean muted;
+    private ExecutorService generatorExecutor;
+    private GameResources resources;
+    private RunStore runStore;
+    private GameScreen gameScreen;
+    private AudioManager audio;
+
+    public Main()
+    {
+        this(PhysicsType.BOX2D, false);
+    }
+
+    /** @param muted plays no sound or music at all, through a {@link NoopAudioBackend} */
+    public Main(PhysicsType physicsType, boolean muted)
+    {
+        this.physicsType = physicsType;
+        this.muted = muted;
+    }
+
     @Override
     public void create()
     {
-        setScreen(new GameScreen());
+        generatorExecutor = Executors.newSingleThreadExecutor(runnable ->
+        {
+            Thread thread = new Thread(runnable, "level-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        resources = new GameResources();
+        runStore = new RunStore(Gdx.files.local("runs").file());
+        setScreen(new LoadingScreen(this, resources));
+    }
+
+    /** Called by the {@link LoadingScreen} once every asset is in memory. */
+    void assetsLoaded()
+    {
+        Screen loadingScreen = getScreen();
+        audio = new AudioManager(muted ? new NoopAudioBackend() : new GdxAudioBackend(resources.assets));
+        gameScreen = new GameScreen(resources, generatorExecutor, runStore, physicsType, audio);
+        setScreen(gameScreen);
+        loadingScreen.dispose();
+    }
+
+    public GameResources getResources()
+    {
+        return resources;
+    }
+
+    @Override
+    public void dispose()
+    {
+        super.dispose();
+        if (gameScreen != null)
+        {
+            gameScreen.dispose();
+        }
+        if (audio != null)
+        {
+            audio.dispose();
+        }
+        resources.dispose();
+        runStore.dispose();
+        generatorExecutor.shutdownNow();
     }
 }
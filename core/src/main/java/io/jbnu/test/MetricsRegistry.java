@@ -0,0 +1,184 @@
+package io.jbnu.test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-frame timing and counters for the game loop, kept for the last {@link #HISTORY} frames in primitive ring
+ * buffers. Sections are timed with {@link #begin}/{@link #end} and may be entered several times per frame (e.g. one
+ * physics step per fixed tick); {@link #endFrame} closes the frame and records a row. A section may be timed on
+ * another thread than the one calling {@link #endFrame}, as long as each section is only timed from one thread.
+ */
+public class MetricsRegistry
+{
+    public static final int INPUT = 0;
+    public static final int STEP = 1;
+    public static final int GENERATION = 2;
+    public static final int REMOVAL = 3;
+    public static final int RENDER = 4;
+    public static final int SECTION_COUNT = 5;
+
+    public static final int HISTORY = 600;
+
+    private static final String[] SECTION_NAMES = {"input", "step", "generation", "removal", "render"};
+
+    private final long[] sectionStart = new long[SECTION_COUNT];
+    private final AtomicLongArray sectionNanos = new AtomicLongArray(SECTION_COUNT);
+    private final long[][] sectionHistory = new long[SECTION_COUNT][HISTORY];
+    private final long[] frameHistory = new long[HISTORY];
+    private final long[] allocatedHistory = new long[HISTORY];
+    private final int[] bodyHistory = new int[HISTORY];
+    private final int[] fixtureHistory = new int[HISTORY];
+    private final int[] contactHistory = new int[HISTORY];
+    private final long[] sortScratch = new long[HISTORY];
+    private int head = 0;
+    private int count = 0;
+
+    private int bodies;
+    private int fixtures;
+    private int contacts;
+    private final Runtime runtime = Runtime.getRuntime();
+    private long lastHeapUsed = -1;
+
+    public static String getSectionName(int section)
+    {
+        return SECTION_NAMES[section];
+    }
+
+    public void begin(int section)
+    {
+        sectionStart[section] = System.nanoTime();
+    }
+
+    public void end(int section)
+    {
+        sectionNanos.addAndGet(section, System.nanoTime() - sectionStart[section]);
+    }
+
+    public void setCounts(int bodies, int fixtures, int contacts)
+    {
+        this.bodies = bodies;
+        this.fixtures = fixtures;
+        this.contacts = contacts;
+    }
+
+    /**
+     * Records the current frame. The allocation figure is estimated from the growth of the used heap since the last
+     * frame, so frames in which a collection ran count as zero.
+     */
+    public void endFrame(float delta)
+    {
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+        long allocated = lastHeapUsed < 0 ? 0 : Math.max(0, heapUsed - lastHeapUsed);
+        lastHeapUsed = heapUsed;
+
+        frameHistory[head] = (long) (delta * 1_000_000_000L);
+        allocatedHistory[head] = allocated;
+        bodyHistory[head] = bodies;
+        fixtureHistory[head] = fixtures;
+        contactHistory[head] = contacts;
+        for (int i = 0; i < SECTION_COUNT; i++)
+        {
+            sectionHistory[i][head] = sectionNanos.getAndSet(i, 0);
+        }
+
+        head = (head + 1) % HISTORY;
+        if (count < HISTORY) count++;
+    }
+
+    public int getFrameCount()
+    {
+        return count;
+    }
+
+    public float getFps()
+    {
+        long total = sum(frameHistory);
+        return total == 0 ? 0 : count * 1_000_000_000f / total;
+    }
+
+    /** Frame time in nanoseconds below which {@code percentile} (0-100) of the recorded frames fall. */
+    public long getFramePercentile(float percentile)
+    {
+        if (count == 0) return 0;
+
+        System.arraycopy(frameHistory, 0, sortScratch, 0, count);
+        Arrays.sort(sortScratch, 0, count);
+        int index = Math.min(count - 1, (int) Math.ceil(percentile / 100f * count) - 1);
+        return sortScratch[Math.max(0, index)];
+    }
+
+    public long getSectionAverage(int section)
+    {
+        return count == 0 ? 0 : sum(sectionHistory[section]) / count;
+    }
+
+    /** Estimated heap allocation rate in bytes per second over the recorded frames. */
+    public long getAllocationRate()
+    {
+        long total = sum(frameHistory);
+        return total == 0 ? 0 : (long) (sum(allocatedHistory) * 1_000_000_000.0 / total);
+    }
+
+    public int getBodies()
+    {
+        return bodies;
+    }
+
+    public int getFixtures()
+    {
+        return fixtures;
+    }
+
+    public int getContacts()
+    {
+        return contacts;
+    }
+
+    private long sum(long[] history)
+    {
+        long total = 0;
+        for (int i = 0; i < count; i++)
+        {
+            total += history[i];
+        }
+        return total;
+    }
+
+    /** Writes the recorded frames, oldest first, as CSV with times in nanoseconds. */
+    public void writeCsv(Writer writer) throws IOException
+    {
+        writer.write("frame_ns");
+        for (int i = 0; i < SECTION_COUNT; i++)
+        {
+            writer.write(',');
+            writer.write(SECTION_NAMES[i]);
+            writer.write("_ns");
+        }
+        writer.write(",bodies,fixtures,contacts,allocated_bytes\n");
+
+        int start = count < HISTORY ? 0 : head;
+        for (int n = 0; n < count; n++)
+        {
+            int i = (start + n) % HISTORY;
+            writer.write(Long.toString(frameHistory[i]));
+            for (int section = 0; section < SECTION_COUNT; section++)
+            {
+                writer.write(',');
+                writer.write(Long.toString(sectionHistory[section][i]));
+            }
+            writer.write(',');
+            writer.write(Integer.toString(bodyHistory[i]));
+            writer.write(',');
+            writer.write(Integer.toString(fixtureHistory[i]));
+            writer.write(',');
+            writer.write(Integer.toString(contactHistory[i]));
+            writer.write(',');
+            writer.write(Long.toString(allocatedHistory[i]));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+}
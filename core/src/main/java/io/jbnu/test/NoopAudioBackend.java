@@ -0,0 +1,20 @@
+package io.jbnu.test;
+
+/** Plays nothing. Used when the game runs muted, and anywhere the simulation must stay silent. */
+public class NoopAudioBackend implements AudioBackend
+{
+    @Override
+    public long play(SoundEffect effect)
+    {
+        return -1;
+    }
+
+    @Override
+    public void stop(SoundEffect effect, long voice) { }
+
+    @Override
+    public void setMusicPlaying(boolean playing) { }
+
+    @Override
+    public void dispose() { }
+}
@@ -0,0 +1,677 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * A pure-Java {@link PhysicsBackend} for exactly what the game simulates: one dynamic box against static oriented
+ * boxes. Without a general world, broad-phase or JNI crossing, a step is a handful of box tests over the active
+ * grounds.
+ * <p>
+ * Collision is a separating-axis test between the player and each ground whose bounds it nears. The incident edge is
+ * clipped against the reference face, as in Box2D, which gives up to two contact points per ground. Contacts are
+ * solved with sequential impulses: Coulomb friction, restitution above a small approach speed and Baumgarte position
+ * correction, warm-started from the impulses of the matching contacts in the previous step. Contacts are created a
+ * little before the boxes touch, like Box2D's polygon skin, and a separated contact only stops the approach.
+ * <p>
+ * All state is kept in preallocated primitive arrays indexed by ground id, so a step allocates nothing. Sines and
+ * cosines go through {@link StrictMath}, so runs repeat bit for bit on every JVM. Results are close to Box2D's but
+ * not identical, so a replay only matches on the backend it was recorded with.
+ */
+public class ObbPhysics implements PhysicsBackend
+{
+    private static final int ITERATIONS = 8;
+    private static final float BAUMGARTE = 0.2f;
+    /** Penetration allowed before position correction starts, like Box2D's linear slop. */
+    private static final float SLOP = 0.005f;
+    private static final float MAX_CORRECTION = 0.2f;
+    /** Contacts are created this far before the boxes touch. */
+    private static final float MARGIN = 0.01f;
+    /** Approach speeds below this don't bounce, like Box2D's velocity threshold. */
+    private static final float RESTITUTION_THRESHOLD = 1f;
+    /** A contact takes over the impulses of a previous one on the same ground within this distance. */
+    private static final float WARM_START_DISTANCE = 0.1f;
+    private static final int MAX_CONTACTS = 32;
+
+    private final GameEvents events;
+    private final Vector2 gravity = new Vector2();
+
+    private final Vector2 position = new Vector2();
+    private final Vector2 velocity = new Vector2();
+    private float angle;
+    private float angularVelocity;
+    private float cos = 1f;
+    private float sin = 0f;
+    private float halfWidth;
+    private float halfHeight;
+    private float mass;
+    private float invMass;
+    private float invInertia;
+    private float friction;
+    private float restitution;
+    private float forceX;
+    private float forceY;
+
+    // 발판 상태, id로 인덱싱한다
+    private float[] groundX = new float[0];
+    private float[] groundY = new float[0];
+    private float[] groundCos = new float[0];
+    private float[] groundSin = new float[0];
+    private float[] groundHalfWidth = new float[0];
+    private float[] groundHalfHeight = new float[0];
+    private float[] groundExtentX = new float[0];
+    private float[] groundExtentY = new float[0];
+    private float[] groundFriction = new float[0];
+    /** Index of each ground in {@link #activeIds}, or -1 if it is inactive. */
+    private int[] activeIndex = new int[0];
+    private int[] activeIds = new int[16];
+    private int activeCount = 0;
+    private int groundCount = 0;
+
+    // 이번 스텝의 접촉
+    private int contactCount = 0;
+    private final int[] contactGround = new int[MAX_CONTACTS];
+    private final float[] contactX = new float[MAX_CONTACTS];
+    private final float[] contactY = new float[MAX_CONTACTS];
+    private final float[] normalX = new float[MAX_CONTACTS];
+    private final float[] normalY = new float[MAX_CONTACTS];
+    private final float[] separation = new float[MAX_CONTACTS];
+    private final float[] contactFriction = new float[MAX_CONTACTS];
+    private final float[] normalMass = new float[MAX_CONTACTS];
+    private final float[] tangentMass = new float[MAX_CONTACTS];
+    private final float[] bias = new float[MAX_CONTACTS];
+    private final float[] normalImpulse = new float[MAX_CONTACTS];
+    private final float[] tangentImpulse = new float[MAX_CONTACTS];
+
+    // 지난 스텝의 접촉, 착지 판정과 웜 스타트에 쓴다
+    private int previousCount = 0;
+    private final int[] previousGround = new int[MAX_CONTACTS];
+    private final float[] previousX = new float[MAX_CONTACTS];
+    private final float[] previousY = new float[MAX_CONTACTS];
+    private final float[] previousNormalImpulse = new float[MAX_CONTACTS];
+    private final float[] previousTangentImpulse = new float[MAX_CONTACTS];
+    private int touchingCount = 0;
+
+    // 클리핑할 입사 모서리의 두 끝점
+    private float clipX0;
+    private float clipY0;
+    private float clipX1;
+    private float clipY1;
+
+    public ObbPhysics(GameEvents events)
+    {
+        this.events = events;
+    }
+
+    @Override
+    public void createPlayer(float x, float y, float halfWidth, float halfHeight, float density, float friction,
+                             float restitution)
+    {
+        position.set(x, y);
+        this.halfWidth = halfWidth;
+        this.halfHeight = halfHeight;
+        this.friction = friction;
+        this.restitution = restitution;
+        mass = density * 4f * halfWidth * halfHeight;
+        invMass = 1f / mass;
+        invInertia = 3f / (mass * (halfWidth * halfWidth + halfHeight * halfHeight));
+    }
+
+    @Override
+    public void setGravity(Vector2 gravity)
+    {
+        this.gravity.set(gravity);
+    }
+
+    @Override
+    public void addGround(int id, float x, float y, float width, float height, float angle, float friction)
+    {
+        if (id >= groundX.length) grow(Math.max(id + 1, groundX.length * 2));
+
+        float c = (float) StrictMath.cos(angle);
+        float s = (float) StrictMath.sin(angle);
+        float hw = width / 2f;
+        float hh = height / 2f;
+        groundX[id] = x;
+        groundY[id] = y;
+        groundCos[id] = c;
+        groundSin[id] = s;
+        groundHalfWidth[id] = hw;
+        groundHalfHeight[id] = hh;
+        groundExtentX[id] = hw * Math.abs(c) + hh * Math.abs(s);
+        groundExtentY[id] = hw * Math.abs(s) + hh * Math.abs(c);
+        groundFriction[id] = friction;
+        activeIndex[id] = -1;
+        groundCount++;
+    }
+
+    private void grow(int capacity)
+    {
+        int oldCapacity = groundX.length;
+        groundX = Arrays.copyOf(groundX, capacity);
+        groundY = Arrays.copyOf(groundY, capacity);
+        groundCos = Arrays.copyOf(groundCos, capacity);
+        groundSin = Arrays.copyOf(groundSin, capacity);
+        groundHalfWidth = Arrays.copyOf(groundHalfWidth, capacity);
+        groundHalfHeight = Arrays.copyOf(groundHalfHeight, capacity);
+        groundExtentX = Arrays.copyOf(groundExtentX, capacity);
+        groundExtentY = Arrays.copyOf(groundExtentY, capacity);
+        groundFriction = Arrays.copyOf(groundFriction, capacity);
+        activeIndex = Arrays.copyOf(activeIndex, capacity);
+        Arrays.fill(activeIndex, oldCapacity, capacity, -1);
+    }
+
+    @Override
+    public void setGroundActive(int id, boolean active)
+    {
+        int index = activeIndex[id];
+        if (active == (index >= 0)) return;
+
+        if (active)
+        {
+            if (activeCount == activeIds.length) activeIds = Arrays.copyOf(activeIds, activeCount * 2);
+            activeIndex[id] = activeCount;
+            activeIds[activeCount++] = id;
+        }
+        else
+        {
+            int last = activeIds[--activeCount];
+            activeIds[index] = last;
+            activeIndex[last] = index;
+            activeIndex[id] = -1;
+            forgetContacts(id);
+        }
+    }
+
+    @Override
+    public void removeGround(int id)
+    {
+        setGroundActive(id, false);
+        groundCount--;
+    }
+
+    /** Drops the contacts with a ground that left, so a ground reusing its id starts with a new contact. */
+    private void forgetContacts(int id)
+    {
+        for (int i = 0; i < contactCount; i++)
+        {
+            if (contactGround[i] == id) contactGround[i] = -1;
+        }
+    }
+
+    @Override
+    public void step(float timeStep)
+    {
+        float invTimeStep = 1f / timeStep;
+
+        saveContacts();
+        collide();
+        postLandings();
+
+        velocity.x += timeStep * (gravity.x + invMass * forceX);
+        velocity.y += timeStep * (gravity.y + invMass * forceY);
+        forceX = 0f;
+        forceY = 0f;
+
+        prepareContacts(invTimeStep);
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            solveContacts();
+        }
+
+        position.x += timeStep * velocity.x;
+        position.y += timeStep * velocity.y;
+        angle += timeStep * angularVelocity;
+        updateRotation();
+    }
+
+    private void saveContacts()
+    {
+        previousCount = 0;
+        for (int i = 0; i < contactCount; i++)
+        {
+            if (contactGround[i] < 0) continue;
+            previousGround[previousCount] = contactGround[i];
+            previousX[previousCount] = contactX[i];
+            previousY[previousCount] = contactY[i];
+            previousNormalImpulse[previousCount] = normalImpulse[i];
+            previousTangentImpulse[previousCount] = tangentImpulse[i];
+            previousCount++;
+        }
+        contactCount = 0;
+    }
+
+    private void collide()
+    {
+        float extentX = halfWidth * Math.abs(cos) + halfHeight * Math.abs(sin);
+        float extentY = halfWidth * Math.abs(sin) + halfHeight * Math.abs(cos);
+        for (int i = 0; i < activeCount; i++)
+        {
+            int id = activeIds[i];
+            if (Math.abs(position.x - groundX[id]) > extentX + groundExtentX[id] + MARGIN) continue;
+            if (Math.abs(position.y - groundY[id]) > extentY + groundExtentY[id] + MARGIN) continue;
+            collideGround(id);
+        }
+    }
+
+    /**
+     * Separating-axis test between the player and one ground. The face with the least penetration becomes the
+     * reference face, ground faces preferred, and the most opposed face of the other box is clipped against it.
+     */
+    private void collideGround(int id)
+    {
+        float gx = groundX[id];
+        float gy = groundY[id];
+        float gc = groundCos[id];
+        float gs = groundSin[id];
+        float ghw = groundHalfWidth[id];
+        float ghh = groundHalfHeight[id];
+
+        // 발판에서 플레이어로 가는 벡터
+        float dx = position.x - gx;
+        float dy = position.y - gy;
+
+        // 두 상자의 축끼리의 내적: 발판 축 u, v와 플레이어 축 u, v
+        float c00 = gc * cos + gs * sin;
+        float c01 = -gc * sin + gs * cos;
+        float c10 = -gs * cos + gc * sin;
+        float c11 = gs * sin + gc * cos;
+
+        float groundU = dx * gc + dy * gs;
+        float groundV = -dx * gs + dy * gc;
+        float playerU = dx * cos + dy * sin;
+        float playerV = -dx * sin + dy * cos;
+
+        float separationGroundU = Math.abs(groundU) - ghw - (halfWidth * Math.abs(c00) + halfHeight * Math.abs(c01));
+        float separationGroundV = Math.abs(groundV) - ghh - (halfWidth * Math.abs(c10) + halfHeight * Math.abs(c11));
+        float separationPlayerU = Math.abs(playerU) - halfWidth - (ghw * Math.abs(c00) + ghh * Math.abs(c10));
+        float separationPlayerV = Math.abs(playerV) - halfHeight - (ghw * Math.abs(c01) + ghh * Math.abs(c11));
+        if (separationGroundU > MARGIN || separationGroundV > MARGIN
+            || separationPlayerU > MARGIN || separationPlayerV > MARGIN)
+        {
+            return;
+        }
+
+        float groundSeparation = Math.max(separationGroundU, separationGroundV);
+        float playerSeparation = Math.max(separationPlayerU, separationPlayerV);
+        boolean groundReference = playerSeparation <= 0.95f * groundSeparation + 0.01f;
+
+        // 기준 면: 바깥쪽 법선 n, 면까지의 거리 faceExtent,
+        // 면 방향 축 side와 그 반길이 sideExtent
+        float refX, refY, nx, ny, faceExtent, sideX, sideY, sideExtent;
+        // 입사 상자: 중심과 두 축, 반길이
+        float incX, incY, incUx, incUy, incVx, incVy, incHalfWidth, incHalfHeight;
+        if (groundReference)
+        {
+            refX = gx;
+            refY = gy;
+            if (separationGroundU > separationGroundV)
+            {
+                float sign = groundU >= 0 ? 1f : -1f;
+                nx = sign * gc;
+                ny = sign * gs;
+                faceExtent = ghw;
+                sideX = -gs;
+                sideY = gc;
+                sideExtent = ghh;
+            }
+            else
+            {
+                float sign = groundV >= 0 ? 1f : -1f;
+                nx = -sign * gs;
+                ny = sign * gc;
+                faceExtent = ghh;
+                sideX = gc;
+                sideY = gs;
+                sideExtent = ghw;
+            }
+            incX = position.x;
+            incY = position.y;
+            incUx = cos;
+            incUy = sin;
+            incVx = -sin;
+            incVy = cos;
+            incHalfWidth = halfWidth;
+            incHalfHeight = halfHeight;
+        }
+        else
+        {
+            refX = position.x;
+            refY = position.y;
+            // 플레이어 면의 법선은 발판 쪽, 즉 d의 반대 방향을 향한다
+            if (separationPlayerU > separationPlayerV)
+            {
+                float sign = playerU >= 0 ? -1f : 1f;
+                nx = sign * cos;
+                ny = sign * sin;
+                faceExtent = halfWidth;
+                sideX = -sin;
+                sideY = cos;
+                sideExtent = halfHeight;
+            }
+            else
+            {
+                float sign = playerV >= 0 ? -1f : 1f;
+                nx = -sign * sin;
+                ny = sign * cos;
+                faceExtent = halfHeight;
+                sideX = cos;
+                sideY = sin;
+                sideExtent = halfWidth;
+            }
+            incX = gx;
+            incY = gy;
+            incUx = gc;
+            incUy = gs;
+            incVx = -gs;
+            incVy = gc;
+            incHalfWidth = ghw;
+            incHalfHeight = ghh;
+        }
+
+        // 입사 면: 입사 상자에서 기준 법선과 가장 반대를 향하는 면
+        float alongU = nx * incUx + ny * incUy;
+        float alongV = nx * incVx + ny * incVy;
+        if (Math.abs(alongU) > Math.abs(alongV))
+        {
+            float sign = alongU >= 0 ? -1f : 1f;
+            float faceX = incX + sign * incHalfWidth * incUx;
+            float faceY = incY + sign * incHalfWidth * incUy;
+            clipX0 = faceX + incHalfHeight * incVx;
+            clipY0 = faceY + incHalfHeight * incVy;
+            clipX1 = faceX - incHalfHeight * incVx;
+            clipY1 = faceY - incHalfHeight * incVy;
+        }
+        else
+        {
+            float sign = alongV >= 0 ? -1f : 1f;
+            float faceX = incX + sign * incHalfHeight * incVx;
+            float faceY = incY + sign * incHalfHeight * incVy;
+            clipX0 = faceX + incHalfWidth * incUx;
+            clipY0 = faceY + incHalfWidth * incUy;
+            clipX1 = faceX - incHalfWidth * incUx;
+            clipY1 = faceY - incHalfWidth * incUy;
+        }
+
+        float sideOffset = sideX * refX + sideY * refY;
+        if (clip(sideX, sideY, sideOffset + sideExtent) < 2) return;
+        if (clip(-sideX, -sideY, -sideOffset + sideExtent) < 2) return;
+
+        // 접촉 법선은 항상 발판에서 플레이어 쪽을 향한다
+        float contactNormalX = groundReference ? nx : -nx;
+        float contactNormalY = groundReference ? ny : -ny;
+        float faceOffset = nx * refX + ny * refY + faceExtent;
+        float mixedFriction = (float) Math.sqrt(friction * groundFriction[id]);
+        addContact(id, clipX0, clipY0, nx * clipX0 + ny * clipY0 - faceOffset, contactNormalX, contactNormalY,
+            mixedFriction);
+        addContact(id, clipX1, clipY1, nx * clipX1 + ny * clipY1 - faceOffset, contactNormalX, contactNormalY,
+            mixedFriction);
+    }
+
+    /**
+     * Clips the incident edge to the side of the line {@code n . p <= offset}. Returns how many end points are left,
+     * which is 2 unless the whole edge lies outside.
+     */
+    private int clip(float nx, float ny, float offset)
+    {
+        float distance0 = nx * clipX0 + ny * clipY0 - offset;
+        float distance1 = nx * clipX1 + ny * clipY1 - offset;
+        if (distance0 > 0 && distance1 > 0) return 0;
+
+        if (distance0 > 0 || distance1 > 0)
+        {
+            float t = distance0 / (distance0 - distance1);
+            float x = clipX0 + t * (clipX1 - clipX0);
+            float y = clipY0 + t * (clipY1 - clipY0);
+            if (distance0 > 0)
+            {
+                clipX0 = x;
+                clipY0 = y;
+            }
+            else
+            {
+                clipX1 = x;
+                clipY1 = y;
+            }
+        }
+        return 2;
+    }
+
+    private void addContact(int id, float x, float y, float contactSeparation, float nx, float ny,
+                            float contactFriction)
+    {
+        if (contactSeparation > MARGIN || contactCount == MAX_CONTACTS) return;
+
+        int i = contactCount++;
+        contactGround[i] = id;
+        contactX[i] = x;
+        contactY[i] = y;
+        separation[i] = contactSeparation;
+        normalX[i] = nx;
+        normalY[i] = ny;
+        this.contactFriction[i] = contactFriction;
+    }
+
+    /** Posts {@link GameEvents#PLAYER_LANDED} once for every ground touched now but not in the previous step. */
+    private void postLandings()
+    {
+        touchingCount = 0;
+        for (int i = 0; i < contactCount; i++)
+        {
+            int id = contactGround[i];
+            if (indexOf(contactGround, i, id) >= 0) continue;
+            touchingCount++;
+            if (indexOf(previousGround, previousCount, id) < 0)
+            {
+                events.post(GameEvents.PLAYER_LANDED, id);
+            }
+        }
+    }
+
+    private static int indexOf(int[] ids, int count, int id)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            if (ids[i] == id) return i;
+        }
+        return -1;
+    }
+
+    private void prepareContacts(float invTimeStep)
+    {
+        for (int i = 0; i < contactCount; i++)
+        {
+            float nx = normalX[i];
+            float ny = normalY[i];
+            float tx = ny;
+            float ty = -nx;
+            float rx = contactX[i] - position.x;
+            float ry = contactY[i] - position.y;
+
+            float rn = rx * ny - ry * nx;
+            float rt = rx * ty - ry * tx;
+            normalMass[i] = 1f / (invMass + invInertia * rn * rn);
+            tangentMass[i] = 1f / (invMass + invInertia * rt * rt);
+
+            float approach = (velocity.x - angularVelocity * ry) * nx + (velocity.y + angularVelocity * rx) * ny;
+            float contactSeparation = separation[i];
+            if (contactSeparation > 0)
+            {
+                // 아직 닿지 않은 접촉은 틈을 메우는 만큼의 접근만 허용한다
+                bias[i] = -contactSeparation * invTimeStep;
+            }
+            else
+            {
+                bias[i] = BAUMGARTE * invTimeStep * Math.min(MAX_CORRECTION, Math.max(0f, -contactSeparation - SLOP));
+            }
+            if (approach < -RESTITUTION_THRESHOLD)
+            {
+                bias[i] = Math.max(bias[i], -restitution * approach);
+            }
+        }
+
+        // 반발 속도를 모두 정한 뒤에 지난 스텝의 충격량을 적용한다
+        for (int i = 0; i < contactCount; i++)
+        {
+            warmStart(i);
+        }
+    }
+
+    /** Starts a contact from the impulses of the nearest previous contact on the same ground, if there is one. */
+    private void warmStart(int i)
+    {
+        normalImpulse[i] = 0f;
+        tangentImpulse[i] = 0f;
+        float bestDistance2 = WARM_START_DISTANCE * WARM_START_DISTANCE;
+        int best = -1;
+        for (int j = 0; j < previousCount; j++)
+        {
+            if (previousGround[j] != contactGround[i]) continue;
+            float dx = previousX[j] - contactX[i];
+            float dy = previousY[j] - contactY[i];
+            float distance2 = dx * dx + dy * dy;
+            if (distance2 < bestDistance2)
+            {
+                bestDistance2 = distance2;
+                best = j;
+            }
+        }
+        if (best < 0) return;
+
+        normalImpulse[i] = previousNormalImpulse[best];
+        tangentImpulse[i] = previousTangentImpulse[best];
+        previousGround[best] = -1;
+        float nx = normalX[i];
+        float ny = normalY[i];
+        applyImpulse(contactX[i] - position.x, contactY[i] - position.y,
+            normalImpulse[i] * nx + tangentImpulse[i] * ny, normalImpulse[i] * ny - tangentImpulse[i] * nx);
+    }
+
+    private void solveContacts()
+    {
+        for (int i = 0; i < contactCount; i++)
+        {
+            float nx = normalX[i];
+            float ny = normalY[i];
+            float tx = ny;
+            float ty = -nx;
+            float rx = contactX[i] - position.x;
+            float ry = contactY[i] - position.y;
+
+            // 마찰을 먼저 풀고 수직 방향을 푼다
+            float relativeX = velocity.x - angularVelocity * ry;
+            float relativeY = velocity.y + angularVelocity * rx;
+            float tangentSpeed = relativeX * tx + relativeY * ty;
+            float maxFriction = contactFriction[i] * normalImpulse[i];
+            float oldTangent = tangentImpulse[i];
+            tangentImpulse[i] = Math.max(-maxFriction,
+                Math.min(maxFriction, oldTangent - tangentMass[i] * tangentSpeed));
+            float tangentDelta = tangentImpulse[i] - oldTangent;
+            applyImpulse(rx, ry, tangentDelta * tx, tangentDelta * ty);
+
+            relativeX = velocity.x - angularVelocity * ry;
+            relativeY = velocity.y + angularVelocity * rx;
+            float normalSpeed = relativeX * nx + relativeY * ny;
+            float oldNormal = normalImpulse[i];
+            normalImpulse[i] = Math.max(0f, oldNormal + normalMass[i] * (bias[i] - normalSpeed));
+            float normalDelta = normalImpulse[i] - oldNormal;
+            applyImpulse(rx, ry, normalDelta * nx, normalDelta * ny);
+        }
+    }
+
+    private void applyImpulse(float rx, float ry, float impulseX, float impulseY)
+    {
+        velocity.x += invMass * impulseX;
+        velocity.y += invMass * impulseY;
+        angularVelocity += invInertia * (rx * impulseY - ry * impulseX);
+    }
+
+    private void updateRotation()
+    {
+        cos = (float) StrictMath.cos(angle);
+        sin = (float) StrictMath.sin(angle);
+    }
+
+    @Override
+    public Vector2 getPlayerPosition()
+    {
+        return position;
+    }
+
+    @Override
+    public Vector2 getPlayerVelocity()
+    {
+        return velocity;
+    }
+
+    @Override
+    public float getPlayerAngle()
+    {
+        return angle;
+    }
+
+    @Override
+    public float getPlayerMass()
+    {
+        return mass;
+    }
+
+    @Override
+    public void setPlayerTransform(float x, float y, float angle)
+    {
+        position.set(x, y);
+        this.angle = angle;
+        updateRotation();
+    }
+
+    @Override
+    public void setPlayerVelocity(float x, float y)
+    {
+        velocity.set(x, y);
+    }
+
+    @Override
+    public void setPlayerAngularVelocity(float angularVelocity)
+    {
+        this.angularVelocity = angularVelocity;
+    }
+
+    @Override
+    public void applyPlayerForce(float x, float y)
+    {
+        forceX += x;
+        forceY += y;
+    }
+
+    @Override
+    public boolean playerContains(float x, float y)
+    {
+        float dx = x - position.x;
+        float dy = y - position.y;
+        return Math.abs(dx * cos + dy * sin) <= halfWidth && Math.abs(-dx * sin + dy * cos) <= halfHeight;
+    }
+
+    @Override
+    public int getBodyCount()
+    {
+        return groundCount + 1;
+    }
+
+    @Override
+    public int getFixtureCount()
+    {
+        return groundCount + 1;
+    }
+
+    @Override
+    public int getContactCount()
+    {
+        return touchingCount;
+    }
+
+    @Override
+    public void dispose()
+    {
+    }
+}
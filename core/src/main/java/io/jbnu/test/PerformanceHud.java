@@ -0,0 +1,88 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * Overlay showing the numbers collected by a {@link MetricsRegistry}. The text is rebuilt into one reused
+ * StringBuilder a few times per second rather than every frame.
+ */
+public class PerformanceHud
+{
+    private static final float REFRESH_INTERVAL = 0.5f;
+
+    private final MetricsRegistry metrics;
+    private final StringBuilder text = new StringBuilder(512);
+    private boolean visible = false;
+    private float refreshTimer = 0f;
+    private int groundsAlive;
+    private int groundsActive;
+    private int groundsRetired;
+
+    public PerformanceHud(MetricsRegistry metrics)
+    {
+        this.metrics = metrics;
+    }
+
+    public void toggle()
+    {
+        visible = !visible;
+        refreshTimer = 0f;
+    }
+
+    public boolean isVisible()
+    {
+        return visible;
+    }
+
+    public void setGrounds(int alive, int active, int retiredThisFrame)
+    {
+        groundsAlive = alive;
+        groundsActive = active;
+        groundsRetired = retiredThisFrame;
+    }
+
+    public void update(float delta)
+    {
+        if (!visible) return;
+
+        refreshTimer -= delta;
+        if (refreshTimer > 0) return;
+        refreshTimer = REFRESH_INTERVAL;
+
+        text.setLength(0);
+        text.append("FPS: ").append(Math.round(metrics.getFps())).append('\n');
+        text.append("Frame p50/p95/p99: ");
+        appendMillis(metrics.getFramePercentile(50)).append(" / ");
+        appendMillis(metrics.getFramePercentile(95)).append(" / ");
+        appendMillis(metrics.getFramePercentile(99)).append(" ms\n");
+        for (int i = 0; i < MetricsRegistry.SECTION_COUNT; i++)
+        {
+            text.append(MetricsRegistry.getSectionName(i)).append(": ");
+            appendMillis(metrics.getSectionAverage(i)).append(" ms\n");
+        }
+        text.append("Bodies: ").append(metrics.getBodies())
+            .append("  Fixtures: ").append(metrics.getFixtures())
+            .append("  Contacts: ").append(metrics.getContacts()).append('\n');
+        text.append("Grounds alive: ").append(groundsAlive).append("  active: ").append(groundsActive)
+            .append("  retired: ").append(groundsRetired).append('\n');
+        text.append("Alloc: ").append(metrics.getAllocationRate() / 1024).append(" KB/s");
+    }
+
+    /** Appends nanoseconds as milliseconds with two decimals, without going through float formatting. */
+    private StringBuilder appendMillis(long nanos)
+    {
+        long hundredths = nanos / 10_000;
+        text.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) text.append('0');
+        return text.append(fraction);
+    }
+
+    public void draw(Batch batch, BitmapFont font, float x, float y)
+    {
+        if (!visible) return;
+        font.draw(batch, text, x, y, 0, Align.left, false);
+    }
+}
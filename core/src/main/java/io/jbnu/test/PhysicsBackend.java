@@ -0,0 +1,61 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * The physics {@link GameSimulation} needs: one dynamic player box against static ground boxes. Grounds are known by
+ * their {@link GroundData} id, are added inactive and only collide while active. When the player starts touching a
+ * ground during {@link #step}, the backend posts {@link GameEvents#PLAYER_LANDED} with the ground id.
+ * <p>
+ * A backend must be deterministic: the same calls in the same order give bit-identical results, or replays break.
+ */
+public interface PhysicsBackend extends Disposable
+{
+    /** Creates the player. Called once, before any ground is added. */
+    void createPlayer(float x, float y, float halfWidth, float halfHeight, float density, float friction,
+                      float restitution);
+
+    void setGravity(Vector2 gravity);
+
+    /** Adds an inactive ground box centred on {@code x, y}. */
+    void addGround(int id, float x, float y, float width, float height, float angle, float friction);
+
+    void setGroundActive(int id, boolean active);
+
+    void removeGround(int id);
+
+    /** Advances the world by {@code timeStep} seconds. */
+    void step(float timeStep);
+
+    /** The player's position. The vector is owned by the backend and must not be modified. */
+    Vector2 getPlayerPosition();
+
+    /** The player's linear velocity. The vector is owned by the backend and must not be modified. */
+    Vector2 getPlayerVelocity();
+
+    float getPlayerAngle();
+
+    float getPlayerMass();
+
+    /** Moves the player and wakes it up. Velocities are kept. */
+    void setPlayerTransform(float x, float y, float angle);
+
+    void setPlayerVelocity(float x, float y);
+
+    void setPlayerAngularVelocity(float angularVelocity);
+
+    /** Applies a force through the player's centre for the next step. */
+    void applyPlayerForce(float x, float y);
+
+    /** Whether the world point lies inside the player box. */
+    boolean playerContains(float x, float y);
+
+    /** Number of bodies, player included, for the debug counters. */
+    int getBodyCount();
+
+    int getFixtureCount();
+
+    /** Number of ground contacts the player has. */
+    int getContactCount();
+}
@@ -0,0 +1,42 @@
+package io.jbnu.test;
+
+import java.util.Locale;
+
+/**
+ * The available {@link PhysicsBackend}s, chosen at launch. Replays store the ordinal, so new types are only ever
+ * added at the end.
+ */
+public enum PhysicsType
+{
+    /** Box2D through JNI. The default. */
+    BOX2D
+    {
+        @Override
+        public PhysicsBackend create(GameEvents events, int groundCapacity)
+        {
+            return new Box2DPhysics(events, groundCapacity);
+        }
+    },
+    /** {@link ObbPhysics}, a small pure-Java solver for exactly the shapes the game uses. */
+    OBB
+    {
+        @Override
+        public PhysicsBackend create(GameEvents events, int groundCapacity)
+        {
+            return new ObbPhysics(events);
+        }
+    };
+
+    /**
+     * Creates a backend that posts landings to {@code events}.
+     *
+     * @param groundCapacity ground bodies a backend that pools them keeps for reuse
+     */
+    public abstract PhysicsBackend create(GameEvents events, int groundCapacity);
+
+    /** Parses a launch option such as {@code box2d} or {@code obb}. */
+    public static PhysicsType parse(String name)
+    {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
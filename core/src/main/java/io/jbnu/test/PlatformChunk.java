@@ -0,0 +1,59 @@
+package io.jbnu.test;
+
+/**
+ * A batch of platform descriptors produced ahead of time by {@link LevelGenerator}. Platforms are laid out left to
+ * right; each entry holds the platform's size, height, angle and friction, the gap to the next platform and what
+ * stands on it, so the consumer only has to add its own x cursor.
+ */
+public class PlatformChunk implements Runnable
+{
+    public final float[] width;
+    public final float[] y;
+    public final float[] angle;
+    public final float[] friction;
+    public final float[] gapAfter;
+    /** Number of coins above the platform, 0 to {@link LevelGenerator#MAX_COINS}. */
+    public final int[] coins;
+    /** Whether a hazard stands on the right end of the platform. */
+    public final boolean[] hazard;
+    public int count;
+
+    /** Stage whose rules the chunk was generated with. */
+    int stage;
+    /** Set instead of the platforms if generating the chunk threw. */
+    Throwable failure;
+    private final LevelGenerator generator;
+
+    PlatformChunk(LevelGenerator generator, int capacity)
+    {
+        this.generator = generator;
+        width = new float[capacity];
+        y = new float[capacity];
+        angle = new float[capacity];
+        friction = new float[capacity];
+        gapAfter = new float[capacity];
+        coins = new int[capacity];
+        hazard = new boolean[capacity];
+    }
+
+    public int capacity()
+    {
+        return width.length;
+    }
+
+    /** Fills the chunk on the generator's executor and hands it over, with the failure if filling threw. */
+    @Override
+    public void run()
+    {
+        try
+        {
+            generator.fill(this);
+        }
+        catch (Throwable t)
+        {
+            count = 0;
+            failure = t;
+        }
+        generator.publish(this);
+    }
+}
@@ -0,0 +1,168 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Plays back a file written by {@link ReplayRecorder}. Create the simulation with {@link #getSeed()},
+ * {@link #getViewWidth()}, {@link #getViewHeight()} and {@link #getPhysicsType()}, then step it until
+ * {@link #isFinished} and compare {@link GameSimulation#stateHash()} with {@link #getEndHash()}.
+ */
+public class ReplayInput implements InputSource
+{
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+    private final long seed;
+    private final float viewWidth;
+    private final float viewHeight;
+    private final PhysicsType physicsType;
+
+    private long nextTick;
+    private int nextFlags;
+    private boolean ended = false;
+    private long endHash;
+    private float pointerX = 0;
+    private float pointerY = 0;
+
+    public ReplayInput(ReadableByteChannel channel) throws IOException
+    {
+        this.channel = channel;
+        buffer.limit(0);
+
+        require(21);
+        if (buffer.getInt() != ReplayRecorder.MAGIC) throw new GdxRuntimeException("Not a replay file.");
+        byte version = buffer.get();
+        if (version != ReplayRecorder.VERSION) throw new GdxRuntimeException("Unsupported replay version: " + version);
+        seed = buffer.getLong();
+        viewWidth = buffer.getFloat();
+        viewHeight = buffer.getFloat();
+
+        require(1);
+        int type = buffer.get();
+        if (type < 0 || type >= PhysicsType.values().length)
+        {
+            throw new GdxRuntimeException("Unknown physics type in replay: " + type);
+        }
+        physicsType = PhysicsType.values()[type];
+
+        readEvent(0);
+    }
+
+    public static ReplayInput open(File file) throws IOException
+    {
+        return new ReplayInput(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+    }
+
+    @Override
+    public void read(long tick, GameSimulation simulation, SimulationInput input)
+    {
+        try
+        {
+            while (!ended && nextTick == tick)
+            {
+                input.boost = (nextFlags & ReplayRecorder.BOOST) != 0;
+                input.pointerDown = (nextFlags & ReplayRecorder.POINTER_DOWN) != 0;
+                if ((nextFlags & ReplayRecorder.POINTER) != 0)
+                {
+                    require(8);
+                    pointerX = buffer.getFloat();
+                    pointerY = buffer.getFloat();
+                }
+                readEvent(nextTick);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new GdxRuntimeException("Couldn't read replay", e);
+        }
+        input.pointerX = pointerX;
+        input.pointerY = pointerY;
+    }
+
+    /** Reads the tick and flags of the next event, and the final hash if it is the end marker. */
+    private void readEvent(long previousTick) throws IOException
+    {
+        nextTick = previousTick + getVarLong();
+        require(1);
+        nextFlags = buffer.get() & 0xFF;
+        if ((nextFlags & ReplayRecorder.END) != 0)
+        {
+            require(8);
+            endHash = buffer.getLong();
+            ended = true;
+        }
+    }
+
+    private long getVarLong() throws IOException
+    {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            require(1);
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new GdxRuntimeException("Malformed varint in replay.");
+    }
+
+    private void require(int bytes) throws IOException
+    {
+        if (buffer.remaining() >= bytes) return;
+        buffer.compact();
+        while (buffer.position() < bytes)
+        {
+            if (channel.read(buffer) < 0) throw new GdxRuntimeException("Replay file is truncated.");
+        }
+        buffer.flip();
+    }
+
+    /** True once the recorded run has been played to its last tick. */
+    public boolean isFinished(long tick)
+    {
+        return ended && tick >= nextTick;
+    }
+
+    /** Tick the recorded run ended on. Only known once the end marker has been read. */
+    public long getEndTick()
+    {
+        return ended ? nextTick : -1;
+    }
+
+    public long getEndHash()
+    {
+        return endHash;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public float getViewWidth()
+    {
+        return viewWidth;
+    }
+
+    public float getViewHeight()
+    {
+        return viewHeight;
+    }
+
+    public PhysicsType getPhysicsType()
+    {
+        return physicsType;
+    }
+
+    public void close()
+    {
+        StreamUtils.closeQuietly(channel);
+    }
+}
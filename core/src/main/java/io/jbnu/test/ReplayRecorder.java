@@ -0,0 +1,136 @@
+package io.jbnu.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a run to a replay file that {@link ReplayInput} can play back step for step.
+ * <p>
+ * The file starts with a header holding the seed, the view size and the {@link PhysicsType}, which together with the
+ * inputs decide the whole run. After that only changes to the input the simulation acts on are stored: each event is
+ * the number of ticks since the previous one as a varint, a flag byte and, on the ticks the player is grabbed or let
+ * go, the pointer as two floats. A press that doesn't grab the player changes nothing, so it is stored as no press.
+ * The last event carries {@link #END} with the final state hash, so a replay can check it ended in the same state.
+ * <p>
+ * A launch costs about twenty bytes and a boost press or release two, so an hour of launching every couple of seconds
+ * is a few tens of KB. Holding a press off the player costs nothing. No tick writes more than ten bytes, so even input
+ * that changes every tick stays under about 2.2 MB an hour.
+ */
+public class ReplayRecorder
+{
+    static final int MAGIC = 0x4A425250; // "JBRP"
+    /** Version 3 added coins and hazards; runs recorded before them play out differently and can't be replayed. */
+    static final byte VERSION = 3;
+    static final int BOOST = 1;
+    static final int POINTER_DOWN = 1 << 1;
+    static final int POINTER = 1 << 2;
+    static final int END = 1 << 7;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+    private long lastTick = 0;
+    private int lastFlags = 0;
+    private float lastPointerX = 0;
+    private float lastPointerY = 0;
+    private boolean finished = false;
+
+    public ReplayRecorder(WritableByteChannel channel, GameSimulation simulation) throws IOException
+    {
+        this.channel = channel;
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(simulation.getSeed());
+        buffer.putFloat(simulation.getViewWidth());
+        buffer.putFloat(simulation.getViewHeight());
+        buffer.put((byte) simulation.getPhysicsType().ordinal());
+    }
+
+    /** Starts recording the current run of {@code simulation} into {@code file}, replacing it if it exists. */
+    public static ReplayRecorder create(File file, GameSimulation simulation) throws IOException
+    {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        return new ReplayRecorder(channel, simulation);
+    }
+
+    /** Records the input about to be given to {@link GameSimulation#step}. Call it before every step. */
+    public void record(GameSimulation simulation, SimulationInput input) throws IOException
+    {
+        // 포인터 위치는 플레이어를 잡는 순간과 놓는 순간에만 쓰인다
+        boolean dragging = simulation.isDragging();
+        boolean grab = input.pointerDown && !dragging && simulation.canGrab(input.pointerX, input.pointerY);
+        boolean release = !input.pointerDown && dragging;
+
+        int flags = 0;
+        if (input.boost) flags |= BOOST;
+        if (grab || input.pointerDown && dragging) flags |= POINTER_DOWN;
+        if ((grab || release) && (input.pointerX != lastPointerX || input.pointerY != lastPointerY))
+        {
+            flags |= POINTER;
+        }
+
+        if (flags == lastFlags && (flags & POINTER) == 0) return;
+
+        ensureRemaining(32);
+        long tick = simulation.getTick();
+        putVarLong(tick - lastTick);
+        buffer.put((byte) flags);
+        if ((flags & POINTER) != 0)
+        {
+            buffer.putFloat(input.pointerX);
+            buffer.putFloat(input.pointerY);
+            lastPointerX = input.pointerX;
+            lastPointerY = input.pointerY;
+        }
+        lastTick = tick;
+        lastFlags = flags & ~POINTER;
+    }
+
+    /** Writes the end marker with the final tick and state hash, then closes the channel. */
+    public void finish(GameSimulation simulation) throws IOException
+    {
+        if (finished) return;
+        finished = true;
+        try
+        {
+            ensureRemaining(32);
+            putVarLong(simulation.getTick() - lastTick);
+            buffer.put((byte) END);
+            buffer.putLong(simulation.stateHash());
+            flush();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    private void putVarLong(long value)
+    {
+        while ((value & ~0x7FL) != 0)
+        {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private void ensureRemaining(int bytes) throws IOException
+    {
+        if (buffer.remaining() < bytes) flush();
+    }
+
+    private void flush() throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
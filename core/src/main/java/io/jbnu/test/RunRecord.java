@@ -0,0 +1,50 @@
+package io.jbnu.test;
+
+import java.nio.ByteBuffer;
+
+/** One finished run, as stored by {@link RunStore}. */
+public class RunRecord
+{
+    /** Bytes taken by {@link #write}. */
+    public static final int SIZE = 36;
+
+    public final long seed;
+    public final int score;
+    public final int stage;
+    public final float distance;
+    public final long durationTicks;
+    public final long finishedAtMillis;
+
+    public RunRecord(long seed, int score, int stage, float distance, long durationTicks, long finishedAtMillis)
+    {
+        this.seed = seed;
+        this.score = score;
+        this.stage = stage;
+        this.distance = distance;
+        this.durationTicks = durationTicks;
+        this.finishedAtMillis = finishedAtMillis;
+    }
+
+    public void write(ByteBuffer buffer)
+    {
+        buffer.putLong(seed);
+        buffer.putInt(score);
+        buffer.putInt(stage);
+        buffer.putFloat(distance);
+        buffer.putLong(durationTicks);
+        buffer.putLong(finishedAtMillis);
+    }
+
+    public static RunRecord read(ByteBuffer buffer)
+    {
+        return new RunRecord(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getFloat(), buffer.getLong(),
+            buffer.getLong());
+    }
+
+    /** Leaderboard order: higher score first, then longer distance. */
+    public boolean ranksAbove(RunRecord other)
+    {
+        if (score != other.score) return score > other.score;
+        return distance > other.distance;
+    }
+}
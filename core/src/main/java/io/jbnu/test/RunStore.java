@@ -0,0 +1,315 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps every finished run in an append-only log and the best {@link #TOP_COUNT} in a small index next to it.
+ * <p>
+ * Log entries are fixed-size records followed by a CRC32, so a write cut short by a crash is detected and cut off
+ * the next time the log is opened. The index holds the leaderboard and how many log bytes it already covers; it is
+ * rewritten to a temporary file and renamed over the old one, so it is always either the old or the new version.
+ * Opening the store only reads the index, and the few log entries written after it, if any, are merged in the
+ * background.
+ * <p>
+ * All file access happens on the store's own writer thread, so {@link #record} never blocks the caller.
+ * {@link #getTop()} returns an immutable snapshot that can be read from any thread.
+ */
+public class RunStore implements Disposable
+{
+    public static final int TOP_COUNT = 10;
+
+    private static final int LOG_MAGIC = 0x4A42524C; // "JBRL"
+    private static final int INDEX_MAGIC = 0x4A425249; // "JBRI"
+    private static final int VERSION = 1;
+    private static final int LOG_HEADER_SIZE = 8;
+    private static final int ENTRY_SIZE = RunRecord.SIZE + 4;
+    private static final int INDEX_SIZE = 20 + TOP_COUNT * RunRecord.SIZE + 4;
+
+    private final File logFile;
+    private final File indexFile;
+    private final File tempIndexFile;
+    private final ExecutorService writer;
+    private volatile RunRecord[] top = new RunRecord[0];
+
+    // Writer thread only.
+    private final ByteBuffer buffer = ByteBuffer.allocate(INDEX_SIZE);
+    private final CRC32 crc = new CRC32();
+    private FileChannel log;
+    private long coveredLength;
+
+    public RunStore(File directory)
+    {
+        directory.mkdirs();
+        logFile = new File(directory, "runs.log");
+        indexFile = new File(directory, "runs.idx");
+        tempIndexFile = new File(directory, "runs.idx.tmp");
+
+        coveredLength = readIndex();
+        writer = Executors.newSingleThreadExecutor(runnable ->
+        {
+            Thread thread = new Thread(runnable, "run-store");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.execute(this::openLog);
+    }
+
+    /** Best runs, best first. The array must not be modified. */
+    public RunRecord[] getTop()
+    {
+        return top;
+    }
+
+    /** Whether a run with this score would enter the leaderboard. */
+    public boolean isHighScore(int score)
+    {
+        RunRecord[] current = top;
+        return current.length < TOP_COUNT || score > current[current.length - 1].score;
+    }
+
+    /** Queues a finished run to be appended to the log. Returns immediately. */
+    public void record(RunRecord run)
+    {
+        writer.execute(() -> append(run));
+    }
+
+    /** Reads the leaderboard. Returns the log length it covers, or 0 if there is no valid index. */
+    private long readIndex()
+    {
+        if (!indexFile.exists()) return 0;
+
+        FileChannel channel = null;
+        try
+        {
+            channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ);
+            ByteBuffer index = ByteBuffer.allocate(INDEX_SIZE);
+            while (index.hasRemaining() && channel.read(index) >= 0) { }
+            index.flip();
+            if (index.remaining() != INDEX_SIZE) return 0;
+
+            CRC32 check = new CRC32();
+            check.update(index.array(), 0, INDEX_SIZE - 4);
+            if (index.getInt(INDEX_SIZE - 4) != (int) check.getValue()) return 0;
+            if (index.getInt() != INDEX_MAGIC || index.getInt() != VERSION) return 0;
+
+            long covered = index.getLong();
+            int count = Math.min(index.getInt(), TOP_COUNT);
+            RunRecord[] loaded = new RunRecord[count];
+            for (int i = 0; i < count; i++)
+            {
+                loaded[i] = RunRecord.read(index);
+            }
+            top = loaded;
+            return covered;
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("RunStore", "Couldn't read " + indexFile, e);
+            return 0;
+        }
+        finally
+        {
+            StreamUtils.closeQuietly(channel);
+        }
+    }
+
+    /** Opens the log, drops a torn last entry and merges entries the index doesn't cover yet. */
+    private void openLog()
+    {
+        try
+        {
+            log = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            if (log.size() < LOG_HEADER_SIZE || !validHeader())
+            {
+                // 헤더가 없거나 깨진 로그는 새로 시작한다
+                log.truncate(0);
+                buffer.clear();
+                buffer.putInt(LOG_MAGIC).putInt(VERSION).flip();
+                writeFully(0);
+                coveredLength = 0;
+                top = new RunRecord[0];
+            }
+
+            long position = Math.max(LOG_HEADER_SIZE, coveredLength);
+            if (position > log.size())
+            {
+                // 인덱스가 로그보다 앞서 있으면 믿을 수 없으니 처음부터 다시 센다
+                position = LOG_HEADER_SIZE;
+                top = new RunRecord[0];
+            }
+            RunRecord[] merged = top;
+            while (position + ENTRY_SIZE <= log.size())
+            {
+                RunRecord run = readEntry(position);
+                if (run == null) break;
+                merged = insert(merged, run);
+                position += ENTRY_SIZE;
+            }
+            if (position != log.size())
+            {
+                Gdx.app.error("RunStore", "Dropping " + (log.size() - position) + " bytes of incomplete runs");
+                log.truncate(position);
+            }
+            log.position(position);
+
+            boolean changed = position != coveredLength;
+            top = merged;
+            coveredLength = position;
+            if (changed) writeIndex();
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("RunStore", "Couldn't open " + logFile, e);
+            StreamUtils.closeQuietly(log);
+            log = null;
+        }
+    }
+
+    private boolean validHeader() throws IOException
+    {
+        buffer.clear().limit(LOG_HEADER_SIZE);
+        while (buffer.hasRemaining() && log.read(buffer, buffer.position()) >= 0) { }
+        return buffer.getInt(0) == LOG_MAGIC && buffer.getInt(4) == VERSION;
+    }
+
+    /** Reads the entry at {@code position}, or returns null if its checksum doesn't match. */
+    private RunRecord readEntry(long position) throws IOException
+    {
+        buffer.clear().limit(ENTRY_SIZE);
+        while (buffer.hasRemaining())
+        {
+            if (log.read(buffer, position + buffer.position()) < 0) return null;
+        }
+        crc.reset();
+        crc.update(buffer.array(), 0, RunRecord.SIZE);
+        if (buffer.getInt(RunRecord.SIZE) != (int) crc.getValue()) return null;
+
+        buffer.flip();
+        return RunRecord.read(buffer);
+    }
+
+    private void append(RunRecord run)
+    {
+        if (log == null) return;
+        try
+        {
+            buffer.clear();
+            run.write(buffer);
+            crc.reset();
+            crc.update(buffer.array(), 0, RunRecord.SIZE);
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            writeFully(coveredLength);
+            log.force(false);
+            coveredLength += ENTRY_SIZE;
+
+            RunRecord[] current = top;
+            RunRecord[] updated = insert(current, run);
+            top = updated;
+            if (updated != current) writeIndex();
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("RunStore", "Couldn't record run", e);
+        }
+    }
+
+    private void writeFully(long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            position += log.write(buffer, position);
+        }
+    }
+
+    /** Returns a copy of {@code board} with {@code run} in place, or {@code board} itself if the run doesn't rank. */
+    private static RunRecord[] insert(RunRecord[] board, RunRecord run)
+    {
+        int rank = 0;
+        while (rank < board.length && !run.ranksAbove(board[rank])) rank++;
+        if (rank >= TOP_COUNT) return board;
+
+        RunRecord[] updated = new RunRecord[Math.min(board.length + 1, TOP_COUNT)];
+        System.arraycopy(board, 0, updated, 0, rank);
+        updated[rank] = run;
+        System.arraycopy(board, rank, updated, rank + 1, updated.length - rank - 1);
+        return updated;
+    }
+
+    /** Writes the index to a temporary file and renames it over the old index. */
+    private void writeIndex() throws IOException
+    {
+        RunRecord[] board = top;
+        buffer.clear();
+        buffer.putInt(INDEX_MAGIC).putInt(VERSION).putLong(coveredLength).putInt(board.length);
+        for (RunRecord run : board)
+        {
+            run.write(buffer);
+        }
+        while (buffer.position() < INDEX_SIZE - 4)
+        {
+            buffer.put((byte) 0);
+        }
+        crc.reset();
+        crc.update(buffer.array(), 0, INDEX_SIZE - 4);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        FileChannel channel = FileChannel.open(tempIndexFile.toPath(), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try
+        {
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        finally
+        {
+            channel.close();
+        }
+
+        try
+        {
+            Files.move(tempIndexFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(tempIndexFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Finishes queued writes, waiting a short while at most, and closes the log. */
+    @Override
+    public void dispose()
+    {
+        writer.execute(() -> StreamUtils.closeQuietly(log));
+        writer.shutdown();
+        try
+        {
+            writer.awaitTermination(2, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
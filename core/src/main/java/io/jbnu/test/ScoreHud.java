@@ -0,0 +1,183 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Score and stage display. Everything that never changes - the labels, the pause image and "GAME CLEAR" - is built
+ * into a {@link SpriteCache} once per screen size, so it is drawn straight from a GPU buffer. The two numbers are laid
+ * out into their own font caches only when their value changes; on other frames drawing them just copies the
+ * prepared vertices into the batch. The leaderboard shown under "GAME CLEAR" is laid out again only when
+ * {@link RunStore} publishes a new board.
+ */
+public class ScoreHud implements Disposable
+{
+    private static final String STAGE_LABEL = "Stage: ";
+    private static final String SCORE_LABEL = "Score: ";
+    private static final String GAME_CLEAR = "GAME CLEAR";
+    private static final String BEST_RUNS = "Best runs";
+    private static final float MARGIN = 20f;
+    private static final float STAGE_WIDTH = 100f;
+    private static final float TOP_OFFSET = 70f;
+
+    private final BitmapFont font;
+    private final BitmapFont gameClearFont;
+    private final TextureRegion pauseRegion;
+    private final SpriteCache cache = new SpriteCache(64, true);
+    private int labelsId;
+    private int pauseId;
+    private int gameClearId;
+
+    private final GlyphLayout layout = new GlyphLayout();
+    private final StringBuilder digits = new StringBuilder(10);
+    private final BitmapFontCache scoreText;
+    private final BitmapFontCache stageText;
+    private float scoreX;
+    private float stageX;
+    private float textY;
+    private int shownScore = -1;
+    private int shownStage = -1;
+
+    private final BitmapFontCache topText;
+    private final StringBuilder topLines = new StringBuilder(256);
+    private RunRecord[] shownTop;
+    private float width;
+    private float height;
+
+    public ScoreHud(BitmapFont font, BitmapFont gameClearFont, TextureRegion pauseRegion)
+    {
+        this.font = font;
+        this.gameClearFont = gameClearFont;
+        this.pauseRegion = pauseRegion;
+        scoreText = new BitmapFontCache(font);
+        stageText = new BitmapFontCache(font);
+        topText = new BitmapFontCache(font);
+    }
+
+    /** Rebuilds the static parts for a new screen size. Sizes are in UI pixels. */
+    public void resize(float width, float height)
+    {
+        this.width = width;
+        this.height = height;
+        textY = height - MARGIN;
+        BitmapFontCache text = new BitmapFontCache(font);
+
+        cache.clear();
+        cache.beginCache();
+        layout.setText(font, SCORE_LABEL);
+        text.setText(layout, MARGIN, textY);
+        scoreX = MARGIN + layout.width;
+        addText(text, font);
+        layout.setText(font, STAGE_LABEL);
+        text.setText(layout, width - STAGE_WIDTH, textY);
+        stageX = width - STAGE_WIDTH + layout.width;
+        addText(text, font);
+        labelsId = cache.endCache();
+
+        cache.beginCache();
+        cache.add(pauseRegion, (width - pauseRegion.getRegionWidth()) / 2f,
+            (height - pauseRegion.getRegionHeight()) / 2f);
+        pauseId = cache.endCache();
+
+        BitmapFontCache clearText = new BitmapFontCache(gameClearFont);
+        cache.beginCache();
+        layout.setText(gameClearFont, GAME_CLEAR, gameClearFont.getColor(), width, Align.center, false);
+        clearText.setText(layout, 0, height / 2f);
+        addText(clearText, gameClearFont);
+        gameClearId = cache.endCache();
+
+        // 숫자도 새 위치에 다시 배치한다
+        shownScore = -1;
+        shownStage = -1;
+        shownTop = null;
+    }
+
+    private void addText(BitmapFontCache text, BitmapFont font)
+    {
+        for (int page = 0; page < font.getRegions().size; page++)
+        {
+            int count = text.getVertexCount(page);
+            if (count > 0)
+            {
+                cache.add(font.getRegion(page).getTexture(), text.getVertices(page), 0, count);
+            }
+        }
+    }
+
+    /** Lays the numbers out again, only if they changed. */
+    public void update(int score, int stage)
+    {
+        if (score != shownScore)
+        {
+            shownScore = score;
+            setNumber(scoreText, score, scoreX);
+        }
+        if (stage != shownStage)
+        {
+            shownStage = stage;
+            setNumber(stageText, stage, stageX);
+        }
+    }
+
+    private void setNumber(BitmapFontCache text, int value, float x)
+    {
+        digits.setLength(0);
+        digits.append(value);
+        layout.setText(font, digits);
+        text.setText(layout, x, textY);
+    }
+
+    /** Lays the leaderboard out again, only if it is a different board from the last one. */
+    public void updateTop(RunRecord[] top)
+    {
+        if (top == shownTop) return;
+        shownTop = top;
+
+        topLines.setLength(0);
+        topLines.append(BEST_RUNS);
+        for (int i = 0; i < top.length; i++)
+        {
+            topLines.append('\n').append(i + 1).append(".  ").append(top[i].score)
+                .append("  (stage ").append(top[i].stage).append(')');
+        }
+        layout.setText(font, topLines, font.getColor(), width, Align.center, false);
+        topText.setText(layout, 0, height / 2f - TOP_OFFSET);
+    }
+
+    /** Draws the cached labels and overlays. Must be called outside of a batch's begin/end. */
+    public void drawStatic(Matrix4 projection, boolean paused, boolean gameClear)
+    {
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        cache.draw(labelsId);
+        if (paused && !gameClear) cache.draw(pauseId);
+        if (gameClear) cache.draw(gameClearId);
+        cache.end();
+    }
+
+    /** Draws the numbers into a batch that has been begun. */
+    public void drawNumbers(Batch batch)
+    {
+        scoreText.draw(batch);
+        stageText.draw(batch);
+    }
+
+    /** Draws the leaderboard into a batch that has been begun. */
+    public void drawTop(Batch batch)
+    {
+        topText.draw(batch);
+    }
+
+    @Override
+    public void dispose()
+    {
+        cache.dispose();
+    }
+}
@@ -0,0 +1,26 @@
+package io.jbnu.test;
+
+/** Input state for one simulation step. Pointer coordinates are in world units. */
+public class SimulationInput
+{
+    public boolean boost;
+    public boolean pointerDown;
+    public float pointerX;
+    public float pointerY;
+
+    public void set(SimulationInput other)
+    {
+        boost = other.boost;
+        pointerDown = other.pointerDown;
+        pointerX = other.pointerX;
+        pointerY = other.pointerY;
+    }
+
+    public void clear()
+    {
+        boost = false;
+        pointerDown = false;
+        pointerX = 0;
+        pointerY = 0;
+    }
+}
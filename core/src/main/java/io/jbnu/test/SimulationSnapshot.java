@@ -0,0 +1,147 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Everything the renderer needs from one simulation step: the previous and current player and view transforms for
+ * interpolation, the grounds and entities near the view and the numbers shown in the HUD. Filled on the simulation
+ * thread and only read by the render thread after it has been published, never both at once.
+ */
+public class SimulationSnapshot
+{
+    /** {@link System#nanoTime()} at which the step was due, for interpolating towards the next one. */
+    public long stepNanos;
+    public long tick;
+
+    public float previousPlayerX;
+    public float previousPlayerY;
+    public float previousPlayerAngle;
+    public float playerX;
+    public float playerY;
+    public float playerAngle;
+    public float previousViewX;
+    public float viewX;
+
+    public int groundCount;
+    public float[] groundX = new float[32];
+    public float[] groundY = new float[32];
+    public float[] groundHalfWidth = new float[32];
+    public float[] groundHalfHeight = new float[32];
+    public float[] groundAngle = new float[32];
+    public float[] groundColor = new float[32];
+
+    /** Coins not yet collected, flags and hazards near the view. */
+    public int entityCount;
+    public short[] entityCategory = new short[64];
+    public float[] entityX = new float[64];
+    public float[] entityY = new float[64];
+    /** Whether a flag has been reached. */
+    public boolean[] entityTaken = new boolean[64];
+
+    public int score;
+    public int stage;
+    public boolean paused;
+    public boolean gameClear;
+    public boolean replaying;
+    public int groundsAlive;
+    public int groundsActive;
+    public long retiredTotal;
+    public int bodies;
+    public int fixtures;
+    public int contacts;
+
+    /** Copies the state of {@code simulation}, with the grounds overlapping the view in either of the last steps. */
+    public void capture(GameSimulation simulation, long stepNanos)
+    {
+        this.stepNanos = stepNanos;
+        tick = simulation.getTick();
+
+        Vector2 position = simulation.getPlayerPosition();
+        Vector2 previousPosition = simulation.getPreviousPlayerPosition();
+        previousPlayerX = previousPosition.x;
+        previousPlayerY = previousPosition.y;
+        previousPlayerAngle = simulation.getPreviousPlayerAngle();
+        playerX = position.x;
+        playerY = position.y;
+        playerAngle = simulation.getPlayerAngle();
+        previousViewX = simulation.getPreviousViewX();
+        viewX = simulation.getViewX();
+
+        float halfView = simulation.getViewWidth() / 2f;
+        GroundTrack grounds = simulation.getGrounds();
+        int first = grounds.firstReaching(Math.min(previousViewX, viewX) - halfView);
+        int end = grounds.endBefore(Math.max(previousViewX, viewX) + halfView);
+        groundCount = Math.max(0, end - first);
+        if (groundCount > groundX.length) grow(groundCount);
+        for (int i = 0; i < groundCount; i++)
+        {
+            groundX[i] = grounds.getX(first + i);
+            groundY[i] = grounds.getY(first + i);
+            groundHalfWidth[i] = grounds.getHalfWidth(first + i);
+            groundHalfHeight[i] = grounds.getHalfHeight(first + i);
+            groundAngle[i] = grounds.getAngle(first + i);
+            groundColor[i] = grounds.getColor(first + i);
+        }
+
+        captureEntities(simulation.getEntities(), Math.min(previousViewX, viewX) - halfView,
+            Math.max(previousViewX, viewX) + halfView);
+
+        score = simulation.getScore();
+        stage = simulation.getStage();
+        gameClear = simulation.isGameClear();
+        groundsAlive = grounds.size();
+        groundsActive = simulation.getActiveGroundCount();
+        retiredTotal = simulation.getRetiredTotal();
+
+        PhysicsBackend physics = simulation.getPhysics();
+        bodies = physics.getBodyCount();
+        fixtures = physics.getFixtureCount();
+        contacts = physics.getContactCount();
+    }
+
+    private void captureEntities(EntityTrack entities, float left, float right)
+    {
+        entityCount = 0;
+        for (int i = entities.firstReaching(left); i < entities.size(); i++)
+        {
+            if (entities.getX(i) - EntityTrack.MAX_HALF_WIDTH > right) break;
+            short category = entities.getCategory(i);
+            if (category == EntityCategory.COIN && entities.isTaken(i)) continue;
+
+            if (entityCount == entityX.length) growEntities();
+            entityCategory[entityCount] = category;
+            entityX[entityCount] = entities.getX(i);
+            entityY[entityCount] = entities.getY(i);
+            entityTaken[entityCount] = entities.isTaken(i);
+            entityCount++;
+        }
+    }
+
+    private void growEntities()
+    {
+        int capacity = entityX.length * 2;
+        short[] category = new short[capacity];
+        float[] x = new float[capacity];
+        float[] y = new float[capacity];
+        boolean[] taken = new boolean[capacity];
+        System.arraycopy(entityCategory, 0, category, 0, entityCount);
+        System.arraycopy(entityX, 0, x, 0, entityCount);
+        System.arraycopy(entityY, 0, y, 0, entityCount);
+        System.arraycopy(entityTaken, 0, taken, 0, entityCount);
+        entityCategory = category;
+        entityX = x;
+        entityY = y;
+        entityTaken = taken;
+    }
+
+    private void grow(int count)
+    {
+        int capacity = Math.max(count, groundX.length * 2);
+        groundX = new float[capacity];
+        groundY = new float[capacity];
+        groundHalfWidth = new float[capacity];
+        groundHalfHeight = new float[capacity];
+        groundAngle = new float[capacity];
+        groundColor = new float[capacity];
+    }
+}
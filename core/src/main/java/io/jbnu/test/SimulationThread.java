@@ -0,0 +1,439 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs the game on its own thread at a fixed {@link GameSimulation#TIME_STEP}, so physics and rendering overlap
+ * instead of taking turns on the GL thread.
+ * <p>
+ * The render thread talks to it in three ways: input samples go through a lock-free {@link InputQueue}, pause and
+ * replay requests are flags, and after every step the state to draw is published as a {@link SimulationSnapshot}.
+ * Snapshots are triple-buffered: the simulation fills one, the render thread reads another, and the third holds the
+ * newest finished one, handed over with a single atomic swap so neither side ever waits for the other.
+ * <p>
+ * Everything that changes the run - recording, replays, game over, saving the run - happens on this thread too.
+ */
+public class SimulationThread implements Runnable, Disposable
+{
+    public static final long STEP_NANOS = (long) (GameSimulation.TIME_STEP * 1_000_000_000L);
+    /** Longest the simulation may fall behind before it skips time instead of catching up. */
+    private static final long MAX_LAG_NANOS = STEP_NANOS * 5;
+    private static final String REPLAY_FILE = "replays/last.jbr";
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final GameSimulation simulation;
+    private final RunStore runStore;
+    private final InputQueue inputs = new InputQueue(64);
+    private final SimulationInput input = new SimulationInput();
+    private final SimulationInput discarded = new SimulationInput();
+    private final ReentrantLock worldLock = new ReentrantLock();
+
+    private final SimulationSnapshot[] snapshots = {
+        new SimulationSnapshot(), new SimulationSnapshot(), new SimulationSnapshot()
+    };
+    /** Index of the newest published snapshot, with {@link #FRESH} set until the render thread takes it. */
+    private final AtomicInteger published = new AtomicInteger(1);
+    private int writing = 0;
+    private int reading = 2;
+
+    private final AtomicBoolean replayRequested = new AtomicBoolean();
+    private final AtomicReference<StageTable> pendingStages = new AtomicReference<>();
+    private volatile boolean paused = false;
+    private volatile boolean running = true;
+    private Thread thread;
+
+    // Simulation thread only.
+    private ReplayRecorder recorder;
+    private ReplayInput replay;
+    private boolean publishedPaused = false;
+
+    public SimulationThread(GameSimulation simulation, RunStore runStore)
+    {
+        this.simulation = simulation;
+        this.runStore = runStore;
+        simulation.getEvents().subscribe(this::onEvent);
+
+        publish(System.nanoTime());
+    }
+
+    public void start()
+    {
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Render thread. Queues the input for the next step. */
+    public void submitInput(SimulationInput sample)
+    {
+        inputs.offer(sample);
+    }
+
+    /** Render thread. The newest published snapshot; stays valid until the next call. */
+    public SimulationSnapshot latest()
+    {
+        if ((published.get() & FRESH) != 0)
+        {
+            reading = published.getAndSet(reading) & INDEX_MASK;
+        }
+        return snapshots[reading];
+    }
+
+    public void setPaused(boolean paused)
+    {
+        this.paused = paused;
+        LockSupport.unpark(thread);
+    }
+
+    public boolean isPaused()
+    {
+        return paused;
+    }
+
+    /** Ends the current recording and plays it back from the start, feeding the simulation from the file. */
+    public void requestReplay()
+    {
+        replayRequested.set(true);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Any thread. Switches the simulation to {@code stages} before its next step. Runs are recorded without their
+     * stage table, so the current recording, and any replay after it, follows the new rules and won't play back
+     * exactly.
+     */
+    public void reloadStages(StageTable stages)
+    {
+        pendingStages.set(stages);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Render thread. Draws the Box2D debug view, holding off the simulation while the world is read. Other physics
+     * backends have no Box2D world to draw.
+     */
+    public void renderDebug(Box2DDebugRenderer renderer, Matrix4 projection)
+    {
+        if (!(simulation.getPhysics() instanceof Box2DPhysics)) return;
+
+        worldLock.lock();
+        try
+        {
+            renderer.render(((Box2DPhysics) simulation.getPhysics()).getWorld(), projection);
+        }
+        finally
+        {
+            worldLock.unlock();
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        startRecording();
+        long next = System.nanoTime();
+        try
+        {
+            while (running)
+            {
+                if (replayRequested.getAndSet(false))
+                {
+                    startReplay();
+                    next = System.nanoTime();
+                }
+
+                StageTable stages = pendingStages.getAndSet(null);
+                if (stages != null)
+                {
+                    simulation.setStageTable(stages);
+                    Gdx.app.log("Simulation", "Stage table reloaded (" + stages.getStageCount()
+                        + " stages); the current recording won't replay exactly");
+                }
+
+                if (paused)
+                {
+                    if (!publishedPaused) publish(System.nanoTime());
+                    LockSupport.parkNanos(STEP_NANOS);
+                    next = System.nanoTime();
+                    continue;
+                }
+
+                long now = System.nanoTime();
+                if (now < next)
+                {
+                    LockSupport.parkNanos(next - now);
+                    continue;
+                }
+                if (now - next > MAX_LAG_NANOS)
+                {
+                    next = now - MAX_LAG_NANOS;
+                }
+
+                step(next);
+                next += STEP_NANOS;
+            }
+        }
+        catch (Throwable t)
+        {
+            Gdx.app.postRunnable(() ->
+            {
+                throw new GdxRuntimeException("Simulation thread failed", t);
+            });
+        }
+        finally
+        {
+            finishRecording();
+            if (replay != null) replay.close();
+        }
+    }
+
+    private void step(long stepNanos)
+    {
+        if (replay != null)
+        {
+            while (inputs.poll(discarded)) { }
+            replay.read(simulation.getTick(), simulation, input);
+        }
+        else
+        {
+            readInput();
+            if (recorder != null) recordStep();
+        }
+
+        worldLock.lock();
+        try
+        {
+            simulation.step(input);
+        }
+        finally
+        {
+            worldLock.unlock();
+        }
+
+        if (replay != null && (replay.isFinished(simulation.getTick()) || simulation.isGameClear()))
+        {
+            stopReplay();
+        }
+        else if (simulation.isGameOver())
+        {
+            gameOver();
+        }
+        publish(stepNanos);
+    }
+
+    /**
+     * Applies the queued samples up to the first one that presses or releases the pointer, so a click shorter than
+     * a step still reaches the simulation as a press in one step and a release in a later one.
+     */
+    private void readInput()
+    {
+        while (true)
+        {
+            boolean pointerChanges = inputs.nextChangesPointer(input);
+            if (!inputs.poll(input) || pointerChanges) break;
+        }
+    }
+
+    private void publish(long stepNanos)
+    {
+        SimulationSnapshot snapshot = snapshots[writing];
+        snapshot.capture(simulation, stepNanos);
+        snapshot.paused = paused;
+        snapshot.replaying = replay != null;
+        publishedPaused = paused;
+        writing = published.getAndSet(writing | FRESH) & INDEX_MASK;
+    }
+
+    private void onEvent(int type, int argument)
+    {
+        if (type == GameEvents.GAME_CLEARED)
+        {
+            paused = true;
+            recordRun();
+        }
+    }
+
+    private void reset(long seed)
+    {
+        worldLock.lock();
+        try
+        {
+            simulation.reset(seed);
+        }
+        finally
+        {
+            worldLock.unlock();
+        }
+        input.clear();
+        paused = false;
+    }
+
+    private void gameOver()
+    {
+        if (replay != null)
+        {
+            stopReplay();
+            return;
+        }
+
+        Gdx.app.log("Simulation",
+            "게임 오버! 최종 점수: " + simulation.getScore() + ", 최종 스테이지: " + simulation.getStage());
+        if (simulation.getPhysics() instanceof Box2DPhysics)
+        {
+            GroundPool groundPool = ((Box2DPhysics) simulation.getPhysics()).getGroundPool();
+            Gdx.app.log("Simulation",
+                "Ground pool hits: " + groundPool.getHits() + ", misses: " + groundPool.getMisses());
+        }
+
+        recordRun();
+
+        // 화면과 월드를 새로 만들지 않고 그 자리에서 다시 시작한다
+        finishRecording();
+        reset(MathUtils.random.nextLong());
+        startRecording();
+    }
+
+    /** Saves the finished run. Replays are skipped, the original run was already saved. */
+    private void recordRun()
+    {
+        if (replay != null) return;
+
+        if (runStore.isHighScore(simulation.getScore()))
+        {
+            Gdx.app.log("Simulation", "New high score: " + simulation.getScore());
+        }
+        runStore.record(new RunRecord(simulation.getSeed(), simulation.getScore(), simulation.getStage(),
+            simulation.getDistance(), simulation.getTick(), System.currentTimeMillis()));
+    }
+
+    /** Records the current run to {@link #REPLAY_FILE}, replacing the previous one. */
+    private void startRecording()
+    {
+        FileHandle file = Gdx.files.local(REPLAY_FILE);
+        file.parent().mkdirs();
+        try
+        {
+            recorder = ReplayRecorder.create(file.file(), simulation);
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("Simulation", "Couldn't start recording", e);
+            recorder = null;
+        }
+    }
+
+    private void recordStep()
+    {
+        try
+        {
+            recorder.record(simulation, input);
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("Simulation", "Couldn't record replay", e);
+            recorder = null;
+        }
+    }
+
+    private void finishRecording()
+    {
+        if (recorder == null) return;
+        try
+        {
+            recorder.finish(simulation);
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("Simulation", "Couldn't finish recording", e);
+        }
+        recorder = null;
+    }
+
+    private void startReplay()
+    {
+        if (replay != null) return;
+        finishRecording();
+        try
+        {
+            replay = ReplayInput.open(Gdx.files.local(REPLAY_FILE).file());
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("Simulation", "Couldn't open replay", e);
+            startRecording();
+            return;
+        }
+
+        if (replay.getViewWidth() != simulation.getViewWidth() || replay.getViewHeight() != simulation.getViewHeight())
+        {
+            Gdx.app.error("Simulation", "Replay was recorded with a different view size");
+            replay.close();
+            replay = null;
+            startRecording();
+            return;
+        }
+        if (replay.getPhysicsType() != simulation.getPhysicsType())
+        {
+            Gdx.app.error("Simulation", "Replay was recorded with " + replay.getPhysicsType() + " physics");
+            replay.close();
+            replay = null;
+            startRecording();
+            return;
+        }
+
+        Gdx.app.log("Simulation", "Replaying seed " + replay.getSeed());
+        reset(replay.getSeed());
+    }
+
+    private void stopReplay()
+    {
+        if (simulation.getTick() == replay.getEndTick() && simulation.stateHash() == replay.getEndHash())
+        {
+            Gdx.app.log("Simulation", "Replay finished in the recorded state");
+        }
+        else
+        {
+            Gdx.app.error("Simulation", "Replay diverged at tick " + simulation.getTick());
+        }
+        replay.close();
+        replay = null;
+
+        reset(MathUtils.random.nextLong());
+        startRecording();
+    }
+
+    /** Stops the thread and waits for it, then disposes the simulation. */
+    @Override
+    public void dispose()
+    {
+        running = false;
+        if (thread != null)
+        {
+            LockSupport.unpark(thread);
+            try
+            {
+                thread.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        simulation.dispose();
+    }
+}
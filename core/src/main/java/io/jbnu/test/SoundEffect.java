@@ -0,0 +1,31 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.audio.Sound;
+
+/**
+ * The game's sound effects, queued to the {@link AudioManager} by ordinal. The game ships a single effect file, so
+ * they are all {@code drop.mp3} played at different volumes and pitches. Each has a voice limit: playing it while
+ * that many are still sounding cuts off the oldest.
+ */
+public enum SoundEffect
+{
+    LAND(GameResources.DROP_SOUND, 0.5f, 1f, 4),
+    LAUNCH(GameResources.DROP_SOUND, 0.25f, 1.6f, 2),
+    COIN(GameResources.DROP_SOUND, 0.4f, 2f, 4),
+    STAGE_UP(GameResources.DROP_SOUND, 0.8f, 0.7f, 1),
+    HAZARD(GameResources.DROP_SOUND, 0.8f, 0.5f, 1);
+
+    public final AssetDescriptor<Sound> asset;
+    public final float volume;
+    public final float pitch;
+    public final int maxVoices;
+
+    SoundEffect(AssetDescriptor<Sound> asset, float volume, float pitch, int maxVoices)
+    {
+        this.asset = asset;
+        this.volume = volume;
+        this.pitch = pitch;
+        this.maxVoices = maxVoices;
+    }
+}
@@ -0,0 +1,224 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * The stage rules, loaded from a JSON file such as {@code assets/stages.json}:
+ * <pre>
+ * { "clearScore": 2000,
+ *   "stages": [
+ *     { "score": 0,   "minGap": 1.0, "maxGap": 3.0, "maxAngle": 0,    "highFriction": 0,  "lowFriction": 50 },
+ *     { "score": 500, "minGap": 1.2, "maxGap": 3.3, "maxAngle": 22.5, "highFriction": 20, "lowFriction": 30 } ] }
+ * </pre>
+ * Each stage starts at its {@code score}. Platforms get a random gap in {@code [minGap, maxGap)} after them. Of 100
+ * platforms, {@code highFriction} are sticky and {@code lowFriction} slippery, the rest normal. On stages with a
+ * {@code maxAngle} in degrees, a platform is tilted by up to that angle with probability {@code slopeChance}, or
+ * {@code highFrictionSlopeChance} for sticky ones (0.3 and 0.4 if left out). A platform carries coins with probability
+ * {@code coinChance} (0.5 if left out), and a long flat one a hazard with probability {@code hazardChance} (0 if left
+ * out). Past the last stage its rules apply. A {@code minGap} below {@link GroundTrack#MIN_GAP} or a {@code maxAngle}
+ * over {@link GroundTrack#MAX_ANGLE} (45 degrees) is rejected, since the culling and retirement searches rely on it.
+ * <p>
+ * The file is read once into flat primitive arrays, with the friction and slope chance of every stage and 1-in-100
+ * roll precomputed, so generating a platform is a few array reads however many stages there are. A table never
+ * changes once built and is safe to share between threads; a reload builds a new table.
+ */
+public final class StageTable
+{
+    /** A platform's kind is decided by a roll in {@code [0, ROLLS)}. */
+    public static final int ROLLS = 100;
+    private static final float DEFAULT_SLOPE_CHANCE = 0.3f;
+    private static final float DEFAULT_HIGH_FRICTION_SLOPE_CHANCE = 0.4f;
+    private static final float DEFAULT_COIN_CHANCE = 0.5f;
+
+    private final int clearScore;
+    private final int[] startScore;
+    private final float[] minGap;
+    private final float[] maxGap;
+    private final float[] maxAngle;
+    private final float[] coinChance;
+    private final float[] hazardChance;
+    /** Indexed by {@code stage index * ROLLS + roll}. */
+    private final float[] friction;
+    private final float[] slopeChance;
+
+    /** Creates a table of {@code stageCount} empty stages, to be filled with {@link #setStage} before it is shared. */
+    StageTable(int clearScore, int stageCount)
+    {
+        if (stageCount < 1) throw new GdxRuntimeException("A stage table needs at least one stage.");
+        if (clearScore <= 0) throw new GdxRuntimeException("clearScore must be positive.");
+        this.clearScore = clearScore;
+        startScore = new int[stageCount];
+        minGap = new float[stageCount];
+        maxGap = new float[stageCount];
+        maxAngle = new float[stageCount];
+        coinChance = new float[stageCount];
+        hazardChance = new float[stageCount];
+        friction = new float[stageCount * ROLLS];
+        slopeChance = new float[stageCount * ROLLS];
+    }
+
+    /**
+     * @param index zero-based, so stage 1 is index 0
+     * @param maxAngle in radians
+     */
+    void setStage(int index, int startScore, float minGap, float maxGap, float maxAngle, int highFrictionPercent,
+                  int lowFrictionPercent, float slopeChance, float highFrictionSlopeChance, float coinChance,
+                  float hazardChance)
+    {
+        if (index == 0 ? startScore != 0 : startScore <= this.startScore[index - 1])
+        {
+            throw new GdxRuntimeException("Stage " + (index + 1) + " must start at a higher score than the one before "
+                + "it, and stage 1 at 0.");
+        }
+        // 이 범위를 벗어나면 GroundTrack의 이진 탐색이 기대하는 정렬이 깨진다
+        if (!(minGap >= GroundTrack.MIN_GAP))
+        {
+            throw new GdxRuntimeException("Stage " + (index + 1) + " has minGap " + minGap + ", below "
+                + GroundTrack.MIN_GAP + ".");
+        }
+        if (!(maxGap >= minGap) || Float.isInfinite(maxGap))
+        {
+            throw new GdxRuntimeException("Stage " + (index + 1) + " has maxGap " + maxGap + ", below minGap.");
+        }
+        if (!(maxAngle >= 0 && maxAngle <= GroundTrack.MAX_ANGLE))
+        {
+            throw new GdxRuntimeException("Stage " + (index + 1) + " has maxAngle outside 0.."
+                + Math.round(GroundTrack.MAX_ANGLE * MathUtils.radiansToDegrees) + " degrees.");
+        }
+        if (!isChance(slopeChance) || !isChance(highFrictionSlopeChance) || !isChance(coinChance)
+            || !isChance(hazardChance))
+        {
+            throw new GdxRuntimeException("Stage " + (index + 1) + " has a chance outside 0..1.");
+        }
+        if (highFrictionPercent < 0 || lowFrictionPercent < 0 || highFrictionPercent + lowFrictionPercent > ROLLS)
+        {
+            throw new GdxRuntimeException("Stage " + (index + 1) + " has friction percentages outside 0..100.");
+        }
+
+        this.startScore[index] = startScore;
+        this.minGap[index] = minGap;
+        this.maxGap[index] = maxGap;
+        this.maxAngle[index] = maxAngle;
+        this.coinChance[index] = coinChance;
+        this.hazardChance[index] = hazardChance;
+
+        // 굴림값 순서대로 미끄럽지 않은 발판, 미끄러운 발판, 보통 발판
+        int base = index * ROLLS;
+        for (int roll = 0; roll < ROLLS; roll++)
+        {
+            boolean high = roll < highFrictionPercent;
+            boolean low = !high && roll < highFrictionPercent + lowFrictionPercent;
+            friction[base + roll] = high ? Ground.FRICTION_HIGH : low ? Ground.FRICTION_LOW : Ground.FRICTION_NORMAL;
+            this.slopeChance[base + roll] = high ? highFrictionSlopeChance : slopeChance;
+        }
+    }
+
+    private static boolean isChance(float value)
+    {
+        return value >= 0 && value <= 1;
+    }
+
+    public static StageTable load(FileHandle file)
+    {
+        JsonValue root;
+        try
+        {
+            root = new JsonReader().parse(file);
+        }
+        catch (RuntimeException e)
+        {
+            throw new GdxRuntimeException("Couldn't parse " + file.path(), e);
+        }
+        return parse(root);
+    }
+
+    public static StageTable parse(JsonValue root)
+    {
+        JsonValue stages = root.get("stages");
+        if (stages == null || !stages.isArray()) throw new GdxRuntimeException("Stage table has no \"stages\" array.");
+
+        StageTable table = new StageTable(root.getInt("clearScore"), stages.size);
+        int index = 0;
+        for (JsonValue stage : stages)
+        {
+            table.setStage(index++, stage.getInt("score"), stage.getFloat("minGap"), stage.getFloat("maxGap"),
+                stage.getFloat("maxAngle", 0f) * MathUtils.degreesToRadians,
+                stage.getInt("highFriction", 0), stage.getInt("lowFriction", 0),
+                stage.getFloat("slopeChance", DEFAULT_SLOPE_CHANCE),
+                stage.getFloat("highFrictionSlopeChance", DEFAULT_HIGH_FRICTION_SLOPE_CHANCE),
+                stage.getFloat("coinChance", DEFAULT_COIN_CHANCE), stage.getFloat("hazardChance", 0f));
+        }
+        return table;
+    }
+
+    /** Zero-based index of a one-based stage, clamped to the stages in the table. */
+    private int index(int stage)
+    {
+        return Math.min(Math.max(stage, 1), startScore.length) - 1;
+    }
+
+    /** The one-based stage reached with {@code score}. Called when the score changes, not per platform. */
+    public int stageForScore(int score)
+    {
+        int stage = 1;
+        while (stage < startScore.length && score >= startScore[stage])
+        {
+            stage++;
+        }
+        return stage;
+    }
+
+    public int getClearScore()
+    {
+        return clearScore;
+    }
+
+    public int getStageCount()
+    {
+        return startScore.length;
+    }
+
+    public float getMinGap(int stage)
+    {
+        return minGap[index(stage)];
+    }
+
+    public float getMaxGap(int stage)
+    {
+        return maxGap[index(stage)];
+    }
+
+    /** Largest platform tilt on the stage in radians, 0 for flat stages. */
+    public float getMaxAngle(int stage)
+    {
+        return maxAngle[index(stage)];
+    }
+
+    /** Chance that a platform on the stage carries coins. */
+    public float getCoinChance(int stage)
+    {
+        return coinChance[index(stage)];
+    }
+
+    /** Chance that a platform on the stage long and flat enough for a hazard gets one. */
+    public float getHazardChance(int stage)
+    {
+        return hazardChance[index(stage)];
+    }
+
+    /** Friction of a platform on {@code stage} given its roll in {@code [0, ROLLS)}. */
+    public float getFriction(int stage, int roll)
+    {
+        return friction[index(stage) * ROLLS + roll];
+    }
+
+    /** Chance that a platform with this roll is tilted, if the stage allows tilting at all. */
+    public float getSlopeChance(int stage, int roll)
+    {
+        return slopeChance[index(stage) * ROLLS + roll];
+    }
+}
@@ -0,0 +1,117 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reloads a stage table file whenever it is saved, on a daemon thread of its own. Editors often write a file in
+ * several steps, so a reload waits until the file has been quiet for {@link #SETTLE_MILLIS}. A file that doesn't
+ * parse is logged and ignored, leaving the game on the table it had.
+ */
+public class StageTableWatcher implements Runnable, Disposable
+{
+    private static final long SETTLE_MILLIS = 100;
+
+    private final File file;
+    private final Consumer<StageTable> listener;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /** @param listener called on the watcher thread with each table read from {@code file} */
+    public StageTableWatcher(File file, Consumer<StageTable> listener) throws IOException
+    {
+        this.file = file.getAbsoluteFile();
+        this.listener = listener;
+        watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParentFile().toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+
+        thread = new Thread(this, "stage-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run()
+    {
+        try
+        {
+            while (true)
+            {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                // 저장이 끝날 때까지 기다렸다가 한 번만 다시 읽음
+                while (true)
+                {
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                    if (key == null) break;
+                    changed |= drain(key);
+                }
+                if (changed) reload();
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException e)
+        {
+            // disposed
+        }
+    }
+
+    /** Returns whether the key has events for the watched file, and re-arms it. */
+    private boolean drain(WatchKey key)
+    {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents())
+        {
+            Object context = event.context();
+            if (context instanceof Path && ((Path) context).getFileName().toString().equals(file.getName()))
+            {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload()
+    {
+        StageTable table;
+        try
+        {
+            table = StageTable.load(new FileHandle(file));
+        }
+        catch (RuntimeException e)
+        {
+            Gdx.app.error("StageTableWatcher", "Keeping the current stage table", e);
+            return;
+        }
+        Gdx.app.log("StageTableWatcher", "Reloaded " + file.getName());
+        listener.accept(table);
+    }
+
+    @Override
+    public void dispose()
+    {
+        try
+        {
+            watchService.close();
+        }
+        catch (IOException e)
+        {
+            Gdx.app.error("StageTableWatcher", "Couldn't close watch service", e);
+        }
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,115 @@
+package io.jbnu.test;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Fails if the drag-to-launch input path allocates. A scripted drag, grabbing the player, dragging it for a few
+ * ticks and releasing it, is run through {@link GameSimulation#step} until generation and the JIT have settled, and
+ * then the bytes allocated by this thread over many more drags must not grow.
+ */
+public class InputAllocationTest
+{
+    private static final int DRAG_TICKS = 8;
+    private static final int WARMUP_DRAGS = 20_000;
+    private static final int MEASURED_DRAGS = 2_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private final SimulationInput input = new SimulationInput();
+
+    @BeforeClass
+    public static void setUpClass()
+    {
+        Box2D.init();
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("Allocation counting needs the HotSpot ThreadMXBean",
+            bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void dragAndLaunchAllocatesNothingOnBox2D()
+    {
+        assertNoAllocation(PhysicsType.BOX2D);
+    }
+
+    @Test
+    public void dragAndLaunchAllocatesNothingOnObb()
+    {
+        assertNoAllocation(PhysicsType.OBB);
+    }
+
+    private void assertNoAllocation(PhysicsType physicsType)
+    {
+        GameSimulation simulation = new GameSimulation(42L, 20f, 11.25f, Runnable::run,
+            new BalanceSettings().toStageTable(), physicsType);
+        try
+        {
+            for (int i = 0; i < WARMUP_DRAGS; i++)
+            {
+                dragAndLaunch(simulation);
+            }
+            assertFalse("The script must keep the run going", simulation.isGameOver());
+
+            // 측정 호출 자체가 할당할 수 있으니, 아무것도 하지 않은 구간의 값을 빼 준다
+            long id = Thread.currentThread().getId();
+            for (int i = 0; i < 10; i++)
+            {
+                threads.getThreadAllocatedBytes(id);
+            }
+            long before = threads.getThreadAllocatedBytes(id);
+            long empty = threads.getThreadAllocatedBytes(id) - before;
+
+            before = threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < MEASURED_DRAGS; i++)
+            {
+                dragAndLaunch(simulation);
+            }
+            long allocated = threads.getThreadAllocatedBytes(id) - before - empty;
+
+            assertEquals("Bytes allocated by " + MEASURED_DRAGS + " scripted drags on " + physicsType, 0, allocated);
+        }
+        finally
+        {
+            simulation.dispose();
+        }
+    }
+
+    /** The same script as {@code InputAllocationBenchmark}: boost, grab, drag, release, then put the player back. */
+    private void dragAndLaunch(GameSimulation simulation)
+    {
+        float startX = simulation.getPlayerPosition().x;
+        float startY = simulation.getPlayerPosition().y;
+
+        input.boost = true;
+        input.pointerDown = true;
+        input.pointerX = startX;
+        input.pointerY = startY;
+        simulation.step(input);
+
+        for (int i = 1; i <= DRAG_TICKS; i++)
+        {
+            input.pointerX = startX - i * 0.25f;
+            input.pointerY = startY - i * 0.3f;
+            simulation.step(input);
+        }
+
+        input.boost = false;
+        input.pointerDown = false;
+        simulation.step(input);
+
+        simulation.getPhysics().setPlayerTransform(startX, startY, 0);
+        simulation.getPhysics().setPlayerVelocity(0, 0);
+        simulation.resetJumpCount();
+    }
+}
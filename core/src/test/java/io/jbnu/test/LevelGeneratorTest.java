@@ -0,0 +1,86 @@
+package io.jbnu.test;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that every generated platform can be reached from the one before it, and that the check really moves
+ * platforms when the gaps are wide, while leaving the rest of the level as the seed rolled it.
+ */
+public class LevelGeneratorTest
+{
+    private static final long SEED = 42L;
+    private static final int PLATFORMS = 400;
+    /** {@code v²/g} of the game's full launch: (3 · 100 · 1/60 / 0.64)² / 5. */
+    private static final float LAUNCH_RANGE = 12.2f;
+    private static final float UNLIMITED_RANGE = 1e6f;
+
+    @Test
+    public void everyPlatformIsReachableAcrossWideGaps()
+    {
+        StageTable stages = wideGaps();
+        float[] y = new float[PLATFORMS];
+        float[] gapBefore = new float[PLATFORMS];
+        LevelGenerator generator = generate(LAUNCH_RANGE, stages, y, gapBefore);
+        float[] rolled = new float[PLATFORMS];
+        generate(UNLIMITED_RANGE, stages, rolled, new float[PLATFORMS]);
+
+        int moved = 0;
+        for (int i = 1; i < PLATFORMS; i++)
+        {
+            float maxRise = generator.maxRise(gapBefore[i]);
+            assertTrue("Platform " + i + " is out of reach", y[i] - y[i - 1] <= maxRise + 1e-4f);
+            if (y[i] != rolled[i])
+            {
+                moved++;
+                // 낮춘 발판은 정확히 닿을 수 있는 높이까지만 낮춘다
+                assertEquals(y[i - 1] + maxRise, y[i], 1e-4f);
+            }
+        }
+        assertTrue("The check never moved a platform", moved > 0);
+    }
+
+    @Test
+    public void narrowGapsLeaveThePlatformsAlone()
+    {
+        float[] y = new float[PLATFORMS];
+        float[] rolled = new float[PLATFORMS];
+        StageTable stages = new BalanceSettings().toStageTable();
+        generate(LAUNCH_RANGE, stages, y, new float[PLATFORMS]);
+        generate(UNLIMITED_RANGE, stages, rolled, new float[PLATFORMS]);
+
+        for (int i = 0; i < PLATFORMS; i++)
+        {
+            assertEquals(rolled[i], y[i], 0f);
+        }
+    }
+
+    /** Every stage has gaps of exactly 7, over which a full launch rises about 4.1. */
+    private static StageTable wideGaps()
+    {
+        BalanceSettings settings = new BalanceSettings();
+        settings.minGap = 7f;
+        settings.maxGap = 7f;
+        settings.minGapPerStage = 0f;
+        settings.maxGapPerStage = 0f;
+        return settings.toStageTable();
+    }
+
+    /** Fills the platform heights and the gap before each platform, all from stage 0. */
+    private static LevelGenerator generate(float launchRange, StageTable stages, float[] y, float[] gapBefore)
+    {
+        LevelGenerator generator = new LevelGenerator(SEED, Runnable::run, launchRange, stages);
+        float gap = generator.startGap();
+        for (int i = 0; i < y.length; i++)
+        {
+            PlatformChunk chunk = generator.next(0);
+            int index = generator.index();
+            y[i] = chunk.y[index];
+            gapBefore[i] = gap;
+            gap = chunk.gapAfter[index];
+        }
+        return generator;
+    }
+}
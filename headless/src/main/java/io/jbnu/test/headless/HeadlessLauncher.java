@@ -0,0 +1,177 @@
+package io.jbnu.test.headless;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import io.jbnu.test.BalanceSettings;
+import io.jbnu.test.Box2DPhysics;
+import io.jbnu.test.GameSimulation;
+import io.jbnu.test.GroundPool;
+import io.jbnu.test.InputSource;
+import io.jbnu.test.PhysicsType;
+import io.jbnu.test.ReplayInput;
+import io.jbnu.test.SimulationInput;
+import io.jbnu.test.StageTable;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Runs the game simulation without a window or GPU. Every finished run is restarted in place with the next seed
+ * until the requested number of steps has been simulated, then the step rate and a hash of all final states are
+ * printed. The pool counters show whether restarts still create Box2D bodies. {@code --physics obb} runs the soak on
+ * the pure-Java backend instead, for comparing step rates.
+ * <p>
+ * With {@code --replay file} it instead fast-forwards a recorded run as quickly as it can be simulated and checks
+ * that it ends in the recorded state.
+ * <p>
+ * Stage rules come from {@code --stages file}, or {@code stages.json} in the working directory if there is one, or
+ * the {@link BalanceSettings} defaults.
+ */
+public class HeadlessLauncher
+{
+    private static final float VIEW_WIDTH = 20f;
+    private static final float VIEW_HEIGHT = VIEW_WIDTH * 720f / 1280f;
+
+    public static void main(String[] args)
+    {
+        long seed = 1L;
+        long steps = 1_000_000L;
+        boolean verify = false;
+        String replayFile = null;
+        PhysicsType physicsType = PhysicsType.BOX2D;
+        File stagesFile = new File("stages.json");
+
+        for (int i = 0; i < args.length; i++)
+        {
+            String arg = args[i];
+            if ("--seed".equals(arg))
+            {
+                seed = Long.parseLong(args[++i]);
+            }
+            else if ("--steps".equals(arg))
+            {
+                steps = Long.parseLong(args[++i]);
+            }
+            else if ("--verify".equals(arg))
+            {
+                verify = true;
+            }
+            else if ("--replay".equals(arg))
+            {
+                replayFile = args[++i];
+            }
+            else if ("--physics".equals(arg))
+            {
+                physicsType = PhysicsType.parse(args[++i]);
+            }
+            else if ("--stages".equals(arg))
+            {
+                stagesFile = new File(args[++i]);
+                if (!stagesFile.isFile())
+                {
+                    System.err.println("No stage table at " + stagesFile);
+                    System.exit(2);
+                }
+            }
+            else
+            {
+                System.err.println(
+                    "Usage: HeadlessLauncher [--seed n] [--steps n] [--verify] [--physics box2d|obb] [--stages file]"
+                    + " [--replay file]");
+                System.exit(2);
+            }
+        }
+
+        Box2D.init();
+        StageTable stages =
+            stagesFile.isFile() ? StageTable.load(new FileHandle(stagesFile)) : new BalanceSettings().toStageTable();
+
+        if (replayFile != null)
+        {
+            System.exit(replay(new File(replayFile), stages) ? 0 : 1);
+        }
+
+        long hash = soak(seed, steps, physicsType, stages);
+        if (verify)
+        {
+            long second = soak(seed, steps, physicsType, stages);
+            if (second != hash)
+            {
+                System.err.printf("Determinism check failed: %016x != %016x%n", hash, second);
+                System.exit(1);
+            }
+            System.out.println("Determinism check passed.");
+        }
+    }
+
+    private static boolean replay(File file, StageTable stages)
+    {
+        ReplayInput replay;
+        try
+        {
+            replay = ReplayInput.open(file);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Couldn't open replay: " + e.getMessage());
+            return false;
+        }
+
+        SimulationInput input = new SimulationInput();
+        GameSimulation simulation = new GameSimulation(replay.getSeed(), replay.getViewWidth(), replay.getViewHeight(),
+            Runnable::run, stages, replay.getPhysicsType());
+
+        long start = System.nanoTime();
+        while (!replay.isFinished(simulation.getTick()) && !simulation.isGameOver() && !simulation.isGameClear())
+        {
+            replay.read(simulation.getTick(), simulation, input);
+            simulation.step(input);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        replay.close();
+
+        long tick = simulation.getTick();
+        boolean matched = tick == replay.getEndTick() && simulation.stateHash() == replay.getEndHash();
+        System.out.printf("replay seed=%d ticks=%d (%.1f min of play) time=%.2fs %s%n",
+            replay.getSeed(), tick, tick * GameSimulation.TIME_STEP / 60f, seconds,
+            matched ? "matched" : "DIVERGED, recorded run ended at tick " + replay.getEndTick());
+        simulation.dispose();
+        return matched;
+    }
+
+    private static long soak(long seed, long steps, PhysicsType physicsType, StageTable stages)
+    {
+        InputSource script = new ScriptedLaunchInput(90, 1.6f, 2.2f);
+        SimulationInput input = new SimulationInput();
+        GameSimulation simulation =
+            new GameSimulation(seed, VIEW_WIDTH, VIEW_HEIGHT, Runnable::run, stages, physicsType);
+        long hash = 17;
+        int runs = 0;
+
+        long start = System.nanoTime();
+        for (long i = 0; i < steps; i++)
+        {
+            script.read(simulation.getTick(), simulation, input);
+            simulation.step(input);
+
+            if (simulation.isGameOver() || simulation.isGameClear())
+            {
+                hash = hash * 31 + simulation.stateHash();
+                runs++;
+                simulation.reset(seed + runs);
+            }
+        }
+        hash = hash * 31 + simulation.stateHash();
+        simulation.dispose();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("physics=%s seed=%d steps=%d runs=%d time=%.2fs steps/s=%.0f hash=%016x%n",
+            physicsType, seed, steps, runs, seconds, steps / seconds, hash);
+        if (simulation.getPhysics() instanceof Box2DPhysics)
+        {
+            GroundPool groundPool = ((Box2DPhysics) simulation.getPhysics()).getGroundPool();
+            System.out.printf("ground pool hits=%d misses=%d%n", groundPool.getHits(), groundPool.getMisses());
+        }
+        return hash;
+    }
+}
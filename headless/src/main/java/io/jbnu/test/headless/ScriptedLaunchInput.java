@@ -0,0 +1,41 @@
+package io.jbnu.test.headless;
+
+import com.badlogic.gdx.math.Vector2;
+import io.jbnu.test.GameSimulation;
+import io.jbnu.test.InputSource;
+import io.jbnu.test.SimulationInput;
+
+/** Grabs the player every {@code interval} ticks and releases it one tick later, launching it up and to the right. */
+public class ScriptedLaunchInput implements InputSource
+{
+    private final int interval;
+    private final float dragX;
+    private final float dragY;
+
+    public ScriptedLaunchInput(int interval, float dragX, float dragY)
+    {
+        this.interval = interval;
+        this.dragX = dragX;
+        this.dragY = dragY;
+    }
+
+    @Override
+    public void read(long tick, GameSimulation simulation, SimulationInput input)
+    {
+        Vector2 position = simulation.getPlayerPosition();
+        input.boost = false;
+
+        if (simulation.isDragging())
+        {
+            input.pointerDown = false;
+            input.pointerX = position.x - dragX;
+            input.pointerY = position.y - dragY;
+        }
+        else
+        {
+            input.pointerDown = tick % interval == 0;
+            input.pointerX = position.x;
+            input.pointerY = position.y;
+        }
+    }
+}
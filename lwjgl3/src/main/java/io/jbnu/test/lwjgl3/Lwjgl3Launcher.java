@@ -4,16 +4,26 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
 import io.jbnu.test.Main;
+import io.jbnu.test.PhysicsType;
 
-/** Launches the desktop (LWJGL3) application. */
+/**
+ * Launches the desktop (LWJGL3) application. {@code --physics obb} runs it on the pure-Java physics backend and
+ * {@code --mute} without sound.
+ */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        PhysicsType physicsType = PhysicsType.BOX2D;
+        boolean muted = false;
+        for (int i = 0; i < args.length; i++) {
+            if ("--physics".equals(args[i]) && i + 1 < args.length) physicsType = PhysicsType.parse(args[i + 1]);
+            if ("--mute".equals(args[i])) muted = true;
+        }
+        createApplication(physicsType, muted);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(PhysicsType physicsType, boolean muted) {
+        return new Lwjgl3Application(new Main(physicsType, muted), getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
@@ -0,0 +1,71 @@
+package io.jbnu.test.sweep;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import io.jbnu.test.GameSimulation;
+import io.jbnu.test.GroundTrack;
+
+/**
+ * Waits until the player has settled on a platform, then pulls towards the next platform ahead with a strength
+ * proportional to the distance, plus some aiming noise so that different seeds don't all play the same way.
+ */
+public class AimPolicy implements BotPolicy
+{
+    private static final float SETTLED_SPEED = 0.05f;
+
+    private final float gain;
+    private final float lift;
+    private final float noise;
+    private final RandomXS128 random = new RandomXS128();
+
+    /**
+     * @param gain pull per unit of distance to the target
+     * @param lift extra upward pull, to clear the platform edge
+     * @param noise largest random change to the pull on each axis
+     */
+    public AimPolicy(float gain, float lift, float noise)
+    {
+        this.gain = gain;
+        this.lift = lift;
+        this.noise = noise;
+    }
+
+    @Override
+    public void reset(long seed)
+    {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public boolean decide(GameSimulation simulation, Vector2 drag)
+    {
+        if (simulation.getJumpCount() > 0) return false;
+        if (simulation.getPlayerVelocity().len2() > SETTLED_SPEED * SETTLED_SPEED) return false;
+
+        Vector2 position = simulation.getPlayerPosition();
+        GroundTrack grounds = simulation.getGrounds();
+        // 지금 서 있는 발판의 오른쪽 끝을 지난 첫 발판을 노린다
+        int next = grounds.firstReaching(position.x + GameSimulation.PLAYER_HALF_WIDTH);
+        while (next < grounds.size() && grounds.getX(next) - grounds.getHalfWidth(next) <= position.x)
+        {
+            next++;
+        }
+        if (next >= grounds.size()) return false;
+
+        float dx = grounds.getX(next) - position.x;
+        float dy = grounds.getY(next) + grounds.getHalfHeight(next) - position.y;
+        drag.set(dx * gain + noise(), dy * gain + lift + noise());
+        return true;
+    }
+
+    private float noise()
+    {
+        return noise == 0 ? 0 : (random.nextFloat() * 2 - 1) * noise;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "aim(gain=" + gain + ", lift=" + lift + ", noise=" + noise + ")";
+    }
+}
@@ -0,0 +1,38 @@
+package io.jbnu.test.sweep;
+
+import com.badlogic.gdx.math.Vector2;
+import io.jbnu.test.GameSimulation;
+import io.jbnu.test.InputSource;
+import io.jbnu.test.SimulationInput;
+
+/** Turns a {@link BotPolicy}'s launches into input: press on the player, then release one tick later at the pull. */
+public class BotInput implements InputSource
+{
+    private final BotPolicy policy;
+    private final Vector2 drag = new Vector2();
+
+    public BotInput(BotPolicy policy)
+    {
+        this.policy = policy;
+    }
+
+    @Override
+    public void read(long tick, GameSimulation simulation, SimulationInput input)
+    {
+        Vector2 position = simulation.getPlayerPosition();
+        input.boost = false;
+
+        if (simulation.isDragging())
+        {
+            input.pointerDown = false;
+            input.pointerX = position.x - drag.x;
+            input.pointerY = position.y - drag.y;
+        }
+        else
+        {
+            input.pointerDown = policy.decide(simulation, drag);
+            input.pointerX = position.x;
+            input.pointerY = position.y;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.jbnu.test.sweep;
+
+import com.badlogic.gdx.math.Vector2;
+import io.jbnu.test.GameSimulation;
+
+/**
+ * Decides when and how hard the bot launches the player. Each worker thread gets its own instance, so a policy may
+ * keep state without synchronization.
+ */
+public interface BotPolicy
+{
+    /** Called before each run. Policies that use randomness should reseed from {@code seed}. */
+    void reset(long seed);
+
+    /**
+     * Called every tick the player isn't being dragged. To launch, set {@code drag} to the pull from the player's
+     * centre, pointing away from where the player should fly, and return true.
+     */
+    boolean decide(GameSimulation simulation, Vector2 drag);
+}
@@ -0,0 +1,39 @@
+package io.jbnu.test.sweep;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import io.jbnu.test.GameSimulation;
+
+/** Launches up and to the right with a random pull whenever it can still jump, as a baseline for the other bots. */
+public class RandomPolicy implements BotPolicy
+{
+    private final float launchChance;
+    private final RandomXS128 random = new RandomXS128();
+
+    /** @param launchChance chance per tick of launching when a jump is available */
+    public RandomPolicy(float launchChance)
+    {
+        this.launchChance = launchChance;
+    }
+
+    @Override
+    public void reset(long seed)
+    {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public boolean decide(GameSimulation simulation, Vector2 drag)
+    {
+        if (simulation.getJumpCount() > 1 || random.nextFloat() >= launchChance) return false;
+
+        drag.set(0.5f + random.nextFloat() * 2f, 0.5f + random.nextFloat() * 2f);
+        return true;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "random(chance=" + launchChance + ")";
+    }
+}
@@ -0,0 +1,122 @@
+package io.jbnu.test.sweep;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.jbnu.test.BalanceSettings;
+import io.jbnu.test.GameSimulation;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Command line entry point for balancing sweeps: plays a range of seeds with a bot on every core and prints the
+ * survival distance, score distribution and stages reached for the given balance settings.
+ */
+public class SweepLauncher
+{
+    private static final String USAGE = "Usage: SweepLauncher [--runs n] [--seed first] [--threads n]"
+        + " [--policy aim|random] [--max-minutes n] [--csv file]"
+        + " [--score-per-stage n] [--clear-score n] [--min-gap f] [--max-gap f]"
+        + " [--min-gap-per-stage f] [--max-gap-per-stage f] [--max-angle-2 degrees] [--max-angle-3 degrees]"
+        + " [--coin-chance f] [--hazard-chance-per-stage f]";
+
+    public static void main(String[] args) throws IOException
+    {
+        int runs = 1000;
+        long seed = 1L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String policyName = "aim";
+        float maxMinutes = 10f;
+        String csvFile = null;
+        BalanceSettings settings = new BalanceSettings();
+
+        for (int i = 0; i < args.length; i++)
+        {
+            String arg = args[i];
+            if (i + 1 >= args.length) usage();
+            String value = args[++i];
+            switch (arg)
+            {
+                case "--runs": runs = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--policy": policyName = value; break;
+                case "--max-minutes": maxMinutes = Float.parseFloat(value); break;
+                case "--csv": csvFile = value; break;
+                case "--score-per-stage": settings.scorePerStage = Integer.parseInt(value); break;
+                case "--clear-score": settings.clearScore = Integer.parseInt(value); break;
+                case "--min-gap": settings.minGap = Float.parseFloat(value); break;
+                case "--max-gap": settings.maxGap = Float.parseFloat(value); break;
+                case "--min-gap-per-stage": settings.minGapPerStage = Float.parseFloat(value); break;
+                case "--max-gap-per-stage": settings.maxGapPerStage = Float.parseFloat(value); break;
+                case "--max-angle-2":
+                    settings.maxAngleStage2 = Float.parseFloat(value) * MathUtils.degreesToRadians;
+                    break;
+                case "--max-angle-3":
+                    settings.maxAngleStage3 = Float.parseFloat(value) * MathUtils.degreesToRadians;
+                    break;
+                case "--coin-chance": settings.coinChance = Float.parseFloat(value); break;
+                case "--hazard-chance-per-stage": settings.hazardChancePerStage = Float.parseFloat(value); break;
+                default: usage();
+            }
+        }
+
+        if (runs < 1 || threads < 1 || !(maxMinutes > 0))
+        {
+            System.err.println("--runs and --threads must be at least 1 and --max-minutes positive.");
+            System.exit(2);
+        }
+        // 워커를 띄우기 전에 게임과 같은 스테이지 표 검사를 거친다
+        try
+        {
+            settings.toStageTable();
+        }
+        catch (GdxRuntimeException e)
+        {
+            System.err.println("Invalid balance settings: " + e.getMessage());
+            System.exit(2);
+        }
+
+        Supplier<BotPolicy> policies = policy(policyName);
+        long maxTicks = (long) (maxMinutes * 60f / GameSimulation.TIME_STEP);
+
+        Box2D.init();
+        System.out.println("settings: " + settings);
+        System.out.println("policy: " + policies.get() + ", seeds " + seed + ".." + (seed + runs - 1)
+            + " on " + threads + " threads");
+
+        SweepResults results = new SweepRunner(settings, policies, maxTicks).run(seed, runs, threads);
+        results.printSummary(System.out);
+
+        if (csvFile != null)
+        {
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(csvFile), StandardCharsets.UTF_8))
+            {
+                results.writeCsv(writer);
+            }
+        }
+    }
+
+    private static Supplier<BotPolicy> policy(String name)
+    {
+        switch (name)
+        {
+            case "aim": return () -> new AimPolicy(0.35f, 0.8f, 0.2f);
+            case "random": return () -> new RandomPolicy(0.02f);
+            default:
+                usage();
+                return null;
+        }
+    }
+
+    private static void usage()
+    {
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+}
@@ -0,0 +1,140 @@
+package io.jbnu.test.sweep;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * The outcome of every run in a sweep, in primitive arrays indexed by run. Each run index is written by exactly one
+ * worker, and the arrays are only read after all workers have finished.
+ */
+public class SweepResults
+{
+    public static final byte FELL = 0;
+    public static final byte CLEARED = 1;
+    public static final byte TIMED_OUT = 2;
+
+    private static final int SCORE_BUCKET = 100;
+
+    final long[] seeds;
+    final float[] distances;
+    final int[] scores;
+    final int[] stages;
+    final long[] ticks;
+    final byte[] outcomes;
+    long elapsedNanos;
+
+    SweepResults(int runs)
+    {
+        seeds = new long[runs];
+        distances = new float[runs];
+        scores = new int[runs];
+        stages = new int[runs];
+        ticks = new long[runs];
+        outcomes = new byte[runs];
+    }
+
+    public int getRuns()
+    {
+        return seeds.length;
+    }
+
+    public long getTotalSteps()
+    {
+        long total = 0;
+        for (long runTicks : ticks) total += runTicks;
+        return total;
+    }
+
+    public double getStepsPerSecond()
+    {
+        return getTotalSteps() / (elapsedNanos / 1e9);
+    }
+
+    public int count(byte outcome)
+    {
+        int count = 0;
+        for (byte o : outcomes) if (o == outcome) count++;
+        return count;
+    }
+
+    /** Survival distance at {@code fraction} (0..1) of the sorted runs. */
+    public float distancePercentile(float fraction)
+    {
+        float[] sorted = distances.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) (fraction * sorted.length))];
+    }
+
+    public float meanDistance()
+    {
+        double sum = 0;
+        for (float distance : distances) sum += distance;
+        return (float) (sum / distances.length);
+    }
+
+    public void printSummary(PrintStream out)
+    {
+        int runs = getRuns();
+        out.printf("runs=%d fell=%d cleared=%d timed-out=%d time=%.2fs steps=%d steps/s=%.0f%n", runs, count(FELL),
+            count(CLEARED), count(TIMED_OUT), elapsedNanos / 1e9, getTotalSteps(), getStepsPerSecond());
+        out.printf("distance mean=%.1f p10=%.1f p50=%.1f p90=%.1f max=%.1f%n", meanDistance(),
+            distancePercentile(0.1f), distancePercentile(0.5f), distancePercentile(0.9f), distancePercentile(1f));
+
+        int maxStage = 0;
+        int maxScore = 0;
+        for (int i = 0; i < runs; i++)
+        {
+            maxStage = Math.max(maxStage, stages[i]);
+            maxScore = Math.max(maxScore, scores[i]);
+        }
+
+        int[] stageCounts = new int[maxStage + 1];
+        for (int stage : stages) stageCounts[stage]++;
+        out.print("stage reached:");
+        for (int stage = 1; stage <= maxStage; stage++)
+        {
+            out.printf(" %d=%.1f%%", stage, 100f * stageCounts[stage] / runs);
+        }
+        out.println();
+
+        int[] scoreCounts = new int[maxScore / SCORE_BUCKET + 1];
+        for (int score : scores) scoreCounts[score / SCORE_BUCKET]++;
+        out.println("score distribution:");
+        for (int bucket = 0; bucket < scoreCounts.length; bucket++)
+        {
+            if (scoreCounts[bucket] == 0) continue;
+            out.printf("  %5d-%-5d %6d %s%n", bucket * SCORE_BUCKET, (bucket + 1) * SCORE_BUCKET - 1,
+                scoreCounts[bucket], bar(scoreCounts[bucket], runs));
+        }
+    }
+
+    private static String bar(int count, int total)
+    {
+        char[] bar = new char[Math.round(50f * count / total)];
+        Arrays.fill(bar, '#');
+        return new String(bar);
+    }
+
+    /** Writes one row per run: seed, outcome, distance, score, stage and ticks. */
+    public void writeCsv(Writer writer) throws IOException
+    {
+        writer.write("seed,outcome,distance,score,stage,ticks\n");
+        for (int i = 0; i < getRuns(); i++)
+        {
+            writer.write(seeds[i] + "," + outcomeName(outcomes[i]) + "," + distances[i] + "," + scores[i] + ","
+                + stages[i] + "," + ticks[i] + "\n");
+        }
+    }
+
+    private static String outcomeName(byte outcome)
+    {
+        switch (outcome)
+        {
+            case CLEARED: return "cleared";
+            case TIMED_OUT: return "timed-out";
+            default: return "fell";
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.jbnu.test.sweep;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.jbnu.test.BalanceSettings;
+import io.jbnu.test.GameSimulation;
+import io.jbnu.test.SimulationInput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Plays many seeded runs in parallel. Every worker thread owns one {@link GameSimulation}, and so one Box2D world,
+ * and restarts it in place for each seed it takes, so worlds are never shared between threads. Workers take run
+ * indices from a shared counter, which keeps them busy until the end even though runs differ wildly in length.
+ */
+public class SweepRunner
+{
+    private static final float VIEW_WIDTH = 20f;
+    private static final float VIEW_HEIGHT = VIEW_WIDTH * 720f / 1280f;
+
+    private final BalanceSettings settings;
+    private final Supplier<BotPolicy> policies;
+    private final long maxTicks;
+
+    /**
+     * @param policies creates one policy per worker thread
+     * @param maxTicks runs still going after this many steps are stopped and counted as timed out
+     */
+    public SweepRunner(BalanceSettings settings, Supplier<BotPolicy> policies, long maxTicks)
+    {
+        this.settings = new BalanceSettings(settings);
+        this.policies = policies;
+        this.maxTicks = maxTicks;
+    }
+
+    /** Plays seeds {@code firstSeed .. firstSeed + runs - 1} on {@code threads} threads. */
+    public SweepResults run(long firstSeed, int runs, int threads)
+    {
+        SweepResults results = new SweepResults(runs);
+        AtomicInteger nextRun = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        long start = System.nanoTime();
+        try
+        {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++)
+            {
+                workers.add(executor.submit(() -> work(firstSeed, runs, nextRun, results)));
+            }
+            for (Future<?> worker : workers)
+            {
+                worker.get();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Sweep interrupted", e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new GdxRuntimeException("Sweep worker failed", e.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        results.elapsedNanos = System.nanoTime() - start;
+        return results;
+    }
+
+    private void work(long firstSeed, int runs, AtomicInteger nextRun, SweepResults results)
+    {
+        BotPolicy policy = policies.get();
+        BotInput bot = new BotInput(policy);
+        SimulationInput input = new SimulationInput();
+        GameSimulation simulation = null;
+        try
+        {
+            int run;
+            while ((run = nextRun.getAndIncrement()) < runs)
+            {
+                long seed = firstSeed + run;
+                if (simulation == null)
+                {
+                    simulation = new GameSimulation(seed, VIEW_WIDTH, VIEW_HEIGHT, Runnable::run, settings);
+                }
+                else
+                {
+                    simulation.reset(seed);
+                }
+                policy.reset(seed);
+                input.clear();
+
+                float startX = simulation.getPlayerPosition().x;
+                while (!simulation.isGameOver() && !simulation.isGameClear() && simulation.getTick() < maxTicks)
+                {
+                    bot.read(simulation.getTick(), simulation, input);
+                    simulation.step(input);
+                }
+
+                results.seeds[run] = seed;
+                results.distances[run] = simulation.getPlayerPosition().x - startX;
+                results.scores[run] = simulation.getScore();
+                results.stages[run] = simulation.getStage();
+                results.ticks[run] = simulation.getTick();
+                results.outcomes[run] = simulation.isGameClear() ? SweepResults.CLEARED
+                    : simulation.isGameOver() ? SweepResults.FELL : SweepResults.TIMED_OUT;
+            }
+        }
+        finally
+        {
+            if (simulation != null) simulation.dispose();
+        }
+    }
+}